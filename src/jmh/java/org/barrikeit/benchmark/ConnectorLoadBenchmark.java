@@ -0,0 +1,136 @@
+package org.barrikeit.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.barrikeit.benchmark.support.BenchmarkServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>Connector Load Benchmark</b>
+ *
+ * <p>Load test of the connector modes of the embedded Tomcat with many small {@code GET
+ * /users/{id}} calls, as an API gateway sends them. {@link Threads} concurrent clients share one
+ * {@link HttpClient}, and each mode reports the throughput ({@code thrpt}) and the latency
+ * distribution with its p99 ({@code sample}) for every combination of:
+ *
+ * <ul>
+ *   <li>{@link #protocol}: the {@code nio} or {@code nio2} I/O of the connector.
+ *   <li>{@link #version}: {@code HTTP_1_1}, where the client opens a connection per concurrent
+ *       request, or {@code HTTP_2}, where the requests are multiplexed as streams of a single h2c
+ *       connection.
+ * </ul>
+ *
+ * <pre>
+ * mvn -P dev,jmh test-compile exec:exec -Djmh.args="ConnectorLoad"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class ConnectorLoadBenchmark {
+
+  @Param({"nio", "nio2"})
+  private String protocol;
+
+  @Param({"HTTP_1_1", "HTTP_2"})
+  private HttpClient.Version version;
+
+  @Param({"1000"})
+  private int rows;
+
+  private BenchmarkServer server;
+  private HttpClient client;
+  private List<HttpRequest> findRequests;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    server =
+        BenchmarkServer.start(
+            Map.of(
+                "server.tomcat.protocol",
+                protocol,
+                "server.http2.enabled",
+                "true",
+                "server.http2.max-concurrent-streams",
+                "128",
+                "spring.datasource.hikari.maximum-pool-size",
+                "50"));
+    client = HttpClient.newBuilder().version(version).build();
+
+    String usersUrl = server.getApiUrl() + "/users";
+    // Seed over HTTP/1.1, the body of the users is too large to go with the h2c upgrade
+    List<Long> ids =
+        seed(usersUrl, HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build());
+    findRequests = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      findRequests.add(HttpRequest.newBuilder(URI.create(usersUrl + "/" + id)).GET().build());
+    }
+    // Upgrade the connection before the clients share it
+    find();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    server.close();
+  }
+
+  @Benchmark
+  public int find() throws Exception {
+    HttpRequest request =
+        findRequests.get(ThreadLocalRandom.current().nextInt(findRequests.size()));
+    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200 || response.version() != version) {
+      throw new IllegalStateException(
+          request.uri() + " answered " + response.statusCode() + " on " + response.version());
+    }
+    return response.body().length;
+  }
+
+  private List<Long> seed(String usersUrl, HttpClient seedClient) throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    String users =
+        objectMapper.writeValueAsString(
+            IntStream.range(0, rows)
+                .mapToObj(i -> Map.of("username", "user" + i, "email", "user" + i + "@generic.es"))
+                .toList());
+    HttpResponse<String> response =
+        seedClient.send(
+            HttpRequest.newBuilder(URI.create(usersUrl + "/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(users))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+    List<Long> ids = new ArrayList<>(rows);
+    for (JsonNode user : objectMapper.readTree(response.body())) {
+      ids.add(user.get("id").asLong());
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,130 @@
+package org.barrikeit.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.barrikeit.benchmark.support.BenchmarkContext;
+import org.barrikeit.service.UserService;
+import org.barrikeit.service.dto.LookupDto;
+import org.barrikeit.service.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>GenericService Benchmark</b>
+ *
+ * <p>Measures the CRUD operations of {@link org.barrikeit.service.GenericService}, through {@link
+ * UserService}, against an embedded H2 database seeded with {@link #rows} users.
+ *
+ * <p>The {@link #cache} parameter compares the reads without cache ({@code none}), with the
+ * Hibernate second-level cache ({@code l2}) and with the DTO cache of the service ({@code dto}).
+ *
+ * <p>{@link #findEach()} and {@link #findAllById()} read the same {@value #LOOKUP_SIZE} users, one
+ * by one or with a single multi-get.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericServiceBenchmark {
+
+  private static final int LOOKUP_SIZE = 200;
+
+  @Param({"1000"})
+  private int rows;
+
+  @Param({"none", "l2", "dto"})
+  private String cache;
+
+  private BenchmarkContext context;
+  private UserService service;
+  private List<Long> ids;
+  private List<Long> lookupIds;
+  private final AtomicLong sequence = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context = BenchmarkContext.start(cacheProperties(cache));
+    service = context.getBean(UserService.class);
+    ids =
+        service
+            .saveAll(LongStream.range(0, rows).mapToObj(GenericServiceBenchmark::newUser).toList())
+            .stream()
+            .map(UserDto::getId)
+            .toList();
+    sequence.set(rows);
+    lookupIds = LongStream.range(0, LOOKUP_SIZE).mapToObj(i -> randomId()).toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<UserDto> findAll() {
+    return service.findAll();
+  }
+
+  @Benchmark
+  public UserDto find() {
+    return service.find(randomId());
+  }
+
+  @Benchmark
+  public int findEach() {
+    int found = 0;
+    for (Long id : lookupIds) {
+      found += service.find(id) != null ? 1 : 0;
+    }
+    return found;
+  }
+
+  @Benchmark
+  public LookupDto<Long, UserDto> findAllById() {
+    return service.findAll(lookupIds);
+  }
+
+  @Benchmark
+  public UserDto save() {
+    return service.save(newUser(sequence.getAndIncrement()));
+  }
+
+  @Benchmark
+  public UserDto update() {
+    Long id = randomId();
+    return service.update(id, newUser(sequence.getAndIncrement()).toBuilder().id(id).build());
+  }
+
+  private static Map<String, String> cacheProperties(String cache) {
+    return switch (cache) {
+      case "l2" -> Map.of("spring.jpa.properties.hibernate.cache.use_second_level_cache", "true");
+      case "dto" -> Map.of("application.cache.dto.entities", "User");
+      default -> Map.of();
+    };
+  }
+
+  private Long randomId() {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+
+  private static UserDto newUser(long index) {
+    return UserDto.builder().username("user" + index).email("user" + index + "@generic.es").build();
+  }
+}
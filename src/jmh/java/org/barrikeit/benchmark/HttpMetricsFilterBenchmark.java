@@ -0,0 +1,121 @@
+package org.barrikeit.benchmark;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.barrikeit.config.HttpMetricsFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * <b>HttpMetricsFilter Benchmark</b>
+ *
+ * <p>Measures the overhead that {@link HttpMetricsFilter} adds to every request, with an empty
+ * filter chain and several threads recording the same route. Run it with the GC profiler to check
+ * that recording does not allocate ({@code gc.alloc.rate.norm} close to 0 B/op):
+ *
+ * <pre>
+ * mvn -P dev,jmh test-compile exec:exec -Djmh.args="HttpMetricsFilter -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class HttpMetricsFilterBenchmark {
+
+  private static final FilterChain EMPTY_CHAIN = (request, response) -> {};
+
+  private HttpMetricsFilter filter;
+  private HttpServletRequest request;
+  private HttpServletResponse response;
+
+  @Setup
+  public void setup() {
+    filter = new HttpMetricsFilter(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    request = new RouteRequest("GET", "/users/{id}");
+    response = new StatusResponse(200);
+  }
+
+  @Benchmark
+  public void baseline() throws IOException, ServletException {
+    EMPTY_CHAIN.doFilter(request, response);
+  }
+
+  @Benchmark
+  public void filter() throws IOException, ServletException {
+    filter.doFilter(request, response, EMPTY_CHAIN);
+  }
+
+  private static <T> T unsupported(Class<T> type) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              throw new UnsupportedOperationException(method.getName());
+            }));
+  }
+
+  /** A request already matched by the dispatcher to a route. */
+  private static final class RouteRequest extends HttpServletRequestWrapper {
+    private final String method;
+    private final String route;
+
+    private RouteRequest(String method, String route) {
+      super(unsupported(HttpServletRequest.class));
+      this.method = method;
+      this.route = route;
+    }
+
+    @Override
+    public String getMethod() {
+      return method;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+      return HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE.equals(name) ? route : null;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+      return false;
+    }
+  }
+
+  private static final class StatusResponse extends HttpServletResponseWrapper {
+    private final int status;
+
+    private StatusResponse(int status) {
+      super(unsupported(HttpServletResponse.class));
+      this.status = status;
+    }
+
+    @Override
+    public int getStatus() {
+      return status;
+    }
+  }
+}
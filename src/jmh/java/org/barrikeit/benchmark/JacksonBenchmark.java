@@ -0,0 +1,61 @@
+package org.barrikeit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.barrikeit.config.MvcConfiguration;
+import org.barrikeit.service.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>Jackson Benchmark</b>
+ *
+ * <p>Measures the serialization of {@link UserDto} lists with the {@link ObjectMapper} configured
+ * in {@link MvcConfiguration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+  @Param({"100", "10000"})
+  private int size;
+
+  private ObjectMapper objectMapper;
+  private List<UserDto> users;
+
+  @Setup
+  public void setup() {
+    objectMapper = new MvcConfiguration().objectMapper();
+    users =
+        LongStream.range(0, size)
+            .mapToObj(
+                index ->
+                    UserDto.builder()
+                        .id(index)
+                        .username("user" + index)
+                        .email("user" + index + "@generic.es")
+                        .build())
+            .toList();
+  }
+
+  @Benchmark
+  public byte[] serializeList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(users);
+  }
+}
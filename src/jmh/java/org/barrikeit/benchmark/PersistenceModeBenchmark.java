@@ -0,0 +1,96 @@
+package org.barrikeit.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.barrikeit.benchmark.support.BenchmarkContext;
+import org.barrikeit.service.UserService;
+import org.barrikeit.service.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>Persistence Mode Benchmark</b>
+ *
+ * <p>Compares the bulk operations of {@link org.barrikeit.service.GenericService} on the {@code
+ * jpa} and the {@code hibernate} persistence stacks: {@link #saveAll()} through the persistence
+ * context, {@link #insertAll()} through a {@code StatelessSession} in the {@code hibernate} mode,
+ * and {@link #streamAll()} over {@link #rows} users. Run with {@code -prof gc} to compare the
+ * allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceModeBenchmark {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  @Param({"jpa", "hibernate"})
+  private String mode;
+
+  @Param({"10000"})
+  private int rows;
+
+  private BenchmarkContext context;
+  private UserService service;
+  private final AtomicLong sequence = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        BenchmarkContext.start(
+            Map.of("spring.jpa.persistence.mode", mode, "spring.jpa.id-strategy", "sequence"));
+    service = context.getBean(UserService.class);
+    service.insertAll(newUsers(rows));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<UserDto> saveAll() {
+    return service.saveAll(newUsers(CHUNK_SIZE));
+  }
+
+  @Benchmark
+  public List<UserDto> insertAll() {
+    return service.insertAll(newUsers(CHUNK_SIZE));
+  }
+
+  @Benchmark
+  public long streamAll() {
+    AtomicLong count = new AtomicLong();
+    service.streamAll(dto -> count.incrementAndGet());
+    return count.get();
+  }
+
+  private List<UserDto> newUsers(int size) {
+    return LongStream.range(0, size)
+        .map(i -> sequence.getAndIncrement())
+        .mapToObj(
+            index ->
+                UserDto.builder()
+                    .username("user" + index)
+                    .email("user" + index + "@generic.es")
+                    .build())
+        .toList();
+  }
+}
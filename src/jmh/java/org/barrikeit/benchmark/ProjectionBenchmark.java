@@ -0,0 +1,106 @@
+package org.barrikeit.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.barrikeit.benchmark.support.BenchmarkContext;
+import org.barrikeit.service.UserService;
+import org.barrikeit.service.dto.CursorPageDto;
+import org.barrikeit.service.dto.PageDto;
+import org.barrikeit.service.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>Projection Benchmark</b>
+ *
+ * <p>Compares the read paths of {@link org.barrikeit.service.GenericService} hydrating the entities
+ * and mapping them ({@code entity}) with the DTO projection ({@code projection}), through {@link
+ * UserService}. Both run in read-only transactions. Run it with the GC profiler to compare the
+ * bytes allocated per read ({@code gc.alloc.rate.norm}):
+ *
+ * <pre>
+ * mvn -P dev,jmh test-compile exec:exec -Djmh.args="Projection -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"1000"})
+  private int rows;
+
+  @Param({"entity", "projection"})
+  private String read;
+
+  private BenchmarkContext context;
+  private UserService service;
+  private List<Long> ids;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        BenchmarkContext.start(
+            Map.of("application.projection.entities", "projection".equals(read) ? "User" : ""));
+    service = context.getBean(UserService.class);
+    ids =
+        service
+            .saveAll(LongStream.range(0, rows).mapToObj(ProjectionBenchmark::newUser).toList())
+            .stream()
+            .map(UserDto::getId)
+            .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<UserDto> findAll() {
+    return service.findAll();
+  }
+
+  @Benchmark
+  public UserDto find() {
+    return service.find(randomId());
+  }
+
+  @Benchmark
+  public CursorPageDto<UserDto> findAfter() {
+    return service.findAfter(randomId(), PAGE_SIZE);
+  }
+
+  @Benchmark
+  public PageDto<UserDto> search() {
+    return service.search(
+        Map.of("username", List.of("like:user1*")), 0, PAGE_SIZE, List.of("username"));
+  }
+
+  private Long randomId() {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+
+  private static UserDto newUser(long index) {
+    return UserDto.builder().username("user" + index).email("user" + index + "@generic.es").build();
+  }
+}
@@ -0,0 +1,105 @@
+package org.barrikeit.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.barrikeit.model.domain.User;
+import org.barrikeit.util.FieldAccessor;
+import org.barrikeit.util.ReflectionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * <b>ReflectionUtil Benchmark</b>
+ *
+ * <p>Compares the cached {@link FieldAccessor} path of {@link ReflectionUtil} with the previous
+ * implementation, which built the accessor name and looked the {@link Method} up on every call and
+ * walked the class hierarchy on every {@code getFields}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionUtilBenchmark {
+
+  private User user;
+  private FieldAccessor usernameAccessor;
+
+  @Setup
+  public void setup() {
+    user = User.builder().id(1L).username("username").email("mail@generic.es").build();
+    usernameAccessor = ReflectionUtil.getAccessor(User.class, "username");
+  }
+
+  @Benchmark
+  public Object getFieldValueLegacy() throws Exception {
+    return legacyGetFieldValue(user, "username");
+  }
+
+  @Benchmark
+  public Object getFieldValue() {
+    return ReflectionUtil.getFieldValue(user, "username");
+  }
+
+  @Benchmark
+  public Object getFieldValueResolvedAccessor() {
+    return usernameAccessor.get(user);
+  }
+
+  @Benchmark
+  public User setFieldValueLegacy() throws Exception {
+    legacySetFieldValue(user, "email", "other@generic.es");
+    return user;
+  }
+
+  @Benchmark
+  public User setFieldValue() {
+    ReflectionUtil.setFieldValue(user, "email", "other@generic.es");
+    return user;
+  }
+
+  @Benchmark
+  public List<Field> getFieldsLegacy() {
+    List<Field> fields = new ArrayList<>();
+    Class<?> clazz = User.class;
+    while (clazz != null) {
+      fields.addAll(List.of(clazz.getDeclaredFields()));
+      clazz = clazz.getSuperclass();
+    }
+    return fields;
+  }
+
+  @Benchmark
+  public List<Field> getFields() {
+    return ReflectionUtil.getFields(User.class);
+  }
+
+  private static Object legacyGetFieldValue(Object instance, String fieldName) throws Exception {
+    String getterName = "get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    Method getterMethod = ReflectionUtils.findMethod(instance.getClass(), getterName);
+    return getterMethod != null ? getterMethod.invoke(instance) : null;
+  }
+
+  private static void legacySetFieldValue(Object instance, String fieldName, Object value)
+      throws Exception {
+    String setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    Method setterMethod =
+        ReflectionUtils.findMethod(instance.getClass(), setterName, value.getClass());
+    if (setterMethod != null) {
+      setterMethod.invoke(instance, value);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package org.barrikeit.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.barrikeit.benchmark.support.BenchmarkServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>Server Load Benchmark</b>
+ *
+ * <p>Load test of the whole application running on the embedded Tomcat. {@link Threads} concurrent
+ * clients send blocking HTTP requests, and each mode reports the throughput ({@code thrpt}) and the
+ * latency distribution with its p99 ({@code sample}) for every {@link #executor}:
+ *
+ * <ul>
+ *   <li>{@code platform}: a pool of {@link #maxThreads} threads, smaller than the number of
+ *       clients, so the requests queue when every thread is blocked on JDBC.
+ *   <li>{@code virtual}: one virtual thread per request. It needs Java 21: run it with the {@code
+ *       java21} profile, otherwise the server falls back to platform threads.
+ * </ul>
+ *
+ * <p>The embedded H2 database answers almost without blocking, so the gap between both modes is
+ * much wider against a remote database ({@code spring.datasource.*} overrides in {@link #setup}).
+ *
+ * <pre>
+ * mvn -P dev,jmh,java21 test-compile exec:exec -Djmh.args="ServerLoad"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class ServerLoadBenchmark {
+
+  @Param({"platform", "virtual"})
+  private String executor;
+
+  @Param({"32"})
+  private int maxThreads;
+
+  @Param({"1000"})
+  private int rows;
+
+  private BenchmarkServer server;
+  private HttpClient client;
+  private List<HttpRequest> findRequests;
+  private List<HttpRequest> pageRequests;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    server =
+        BenchmarkServer.start(
+            Map.of(
+                "server.tomcat.executor",
+                executor,
+                "server.tomcat.threads.max",
+                String.valueOf(maxThreads),
+                "spring.datasource.hikari.maximum-pool-size",
+                "50"));
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    String usersUrl = server.getApiUrl() + "/users";
+    List<Long> ids = seed(usersUrl);
+    findRequests = new ArrayList<>(ids.size());
+    pageRequests = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      findRequests.add(HttpRequest.newBuilder(URI.create(usersUrl + "/" + id)).GET().build());
+      pageRequests.add(
+          HttpRequest.newBuilder(URI.create(usersUrl + "?limit=50&after=" + cursor(id)))
+              .GET()
+              .build());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    server.close();
+  }
+
+  @Benchmark
+  public int find() throws Exception {
+    return send(findRequests);
+  }
+
+  @Benchmark
+  public int findPage() throws Exception {
+    return send(pageRequests);
+  }
+
+  private int send(List<HttpRequest> requests) throws Exception {
+    HttpRequest request = requests.get(ThreadLocalRandom.current().nextInt(requests.size()));
+    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(request.uri() + " answered " + response.statusCode());
+    }
+    return response.body().length;
+  }
+
+  private List<Long> seed(String usersUrl) throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    String users =
+        objectMapper.writeValueAsString(
+            IntStream.range(0, rows)
+                .mapToObj(i -> Map.of("username", "user" + i, "email", "user" + i + "@generic.es"))
+                .toList());
+    HttpResponse<String> response =
+        client.send(
+            HttpRequest.newBuilder(URI.create(usersUrl + "/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(users))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+    List<Long> ids = new ArrayList<>(rows);
+    for (JsonNode user : objectMapper.readTree(response.body())) {
+      ids.add(user.get("id").asLong());
+    }
+    return ids;
+  }
+
+  private static String cursor(Long id) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,78 @@
+package org.barrikeit.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.barrikeit.benchmark.support.BenchmarkContext;
+import org.barrikeit.service.UserService;
+import org.barrikeit.service.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>Single Flight Benchmark</b>
+ *
+ * <p>Measures a thundering herd on a single entity: every thread finds the same user, without DTO
+ * cache, with and without the single flight of {@link org.barrikeit.service.GenericService}. The
+ * number of coalesced finds of the trial is printed on tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class SingleFlightBenchmark {
+
+  @Param({"true", "false"})
+  private boolean singleFlight;
+
+  private BenchmarkContext context;
+  private UserService service;
+  private Long id;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        BenchmarkContext.start(
+            Map.of(
+                "application.cache.single-flight",
+                String.valueOf(singleFlight),
+                "spring.datasource.hikari.maximum-pool-size",
+                "16"));
+    service = context.getBean(UserService.class);
+    id =
+        service
+            .save(UserDto.builder().username("popular").email("popular@generic.es").build())
+            .getId();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    double coalesced =
+        context
+            .getBean(MeterRegistry.class)
+            .counter("service.find.coalesced", "entity", "User")
+            .count();
+    System.out.println("Coalesced finds: " + (long) coalesced);
+    context.close();
+  }
+
+  @Benchmark
+  public UserDto findPopular() {
+    return service.find(id);
+  }
+}
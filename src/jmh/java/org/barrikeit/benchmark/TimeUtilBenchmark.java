@@ -0,0 +1,109 @@
+package org.barrikeit.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import org.barrikeit.util.TimeUtil;
+import org.barrikeit.util.constants.UtilConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>TimeUtil Benchmark</b>
+ *
+ * <p>Compares the date conversions of {@link TimeUtil} with the previous implementation, which
+ * compiled the formatters on every call, fell back from the date-time to the date pattern by
+ * catching the parse exception and resolved the zone by its name on every {@code *Now()} call. Run
+ * with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeUtilBenchmark {
+
+  private static final String ZONE = "Europe/Madrid";
+
+  private final String date = "18/10/2024";
+  private final String dateTime = "18/10/2024 13:45:10";
+  private final String isoDateTime = "2024-10-18T13:45:10";
+
+  @Setup
+  public void setup() {
+    TimeUtil.setZone(ZONE);
+  }
+
+  @Benchmark
+  public LocalDate convertLocalDateLegacy() {
+    return LocalDate.parse(date, DateTimeFormatter.ofPattern(UtilConstants.PATTERN_LOCAL_DATE));
+  }
+
+  @Benchmark
+  public LocalDate convertLocalDate() {
+    return TimeUtil.convertLocalDate(date);
+  }
+
+  @Benchmark
+  public LocalDateTime convertLocalDateTimeLegacy() {
+    return legacyConvertLocalDateTime(dateTime);
+  }
+
+  @Benchmark
+  public LocalDateTime convertLocalDateTime() {
+    return TimeUtil.convertLocalDateTime(dateTime);
+  }
+
+  @Benchmark
+  public LocalDateTime convertLocalDateTimeFromDateLegacy() {
+    return legacyConvertLocalDateTime(date);
+  }
+
+  @Benchmark
+  public LocalDateTime convertLocalDateTimeFromDate() {
+    return TimeUtil.convertLocalDateTime(date);
+  }
+
+  @Benchmark
+  public LocalDateTime convertIsoLocalDateTime() {
+    return TimeUtil.convertLocalDateTime(isoDateTime);
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTimeNowLegacy() {
+    return Instant.now()
+        .atZone(ZoneId.of(ZONE))
+        .toInstant()
+        .atZone(ZoneId.of(ZONE))
+        .toLocalDateTime();
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTimeNow() {
+    return TimeUtil.localDateTimeNow();
+  }
+
+  private static LocalDateTime legacyConvertLocalDateTime(String value) {
+    DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern(UtilConstants.PATTERN_LOCAL_DATE);
+    DateTimeFormatter dateTimeFormat = DateTimeFormatter.ofPattern(UtilConstants.PATTERN_DATE_TIME);
+    try {
+      return LocalDateTime.parse(value, dateTimeFormat);
+    } catch (DateTimeParseException e) {
+      return LocalDateTime.of(LocalDate.parse(value, dateFormat), LocalTime.MIN);
+    }
+  }
+}
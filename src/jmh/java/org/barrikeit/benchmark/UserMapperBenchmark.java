@@ -0,0 +1,52 @@
+package org.barrikeit.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.barrikeit.model.domain.User;
+import org.barrikeit.service.dto.UserDto;
+import org.barrikeit.service.mapper.UserMapper;
+import org.barrikeit.service.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b>UserMapper Benchmark</b>
+ *
+ * <p>Measures the throughput of the MapStruct generated {@link UserMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+  private UserMapper mapper;
+  private User user;
+  private UserDto dto;
+
+  @Setup
+  public void setup() {
+    mapper = new UserMapperImpl();
+    user = User.builder().id(1L).username("username").email("mail@generic.es").build();
+    dto = UserDto.builder().id(1L).username("username").email("mail@generic.es").build();
+  }
+
+  @Benchmark
+  public UserDto toDto() {
+    return mapper.toDto(user);
+  }
+
+  @Benchmark
+  public User toEntity() {
+    return mapper.toEntity(dto);
+  }
+}
@@ -0,0 +1,144 @@
+package org.barrikeit.benchmark.support;
+
+import java.util.Map;
+import java.util.Properties;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.config.AsyncConfiguration;
+import org.barrikeit.config.HibernateConfiguration;
+import org.barrikeit.config.HibernateMetricsConfiguration;
+import org.barrikeit.config.JdbcConfiguration;
+import org.barrikeit.config.JpaConfiguration;
+import org.barrikeit.config.MetricsConfiguration;
+import org.barrikeit.config.ServerStatusScheduler;
+import org.barrikeit.util.constants.ConfigurationConstants;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+
+/**
+ * <b>Benchmark Context</b>
+ *
+ * <p>Boots the same context hierarchy as {@code Main} and {@code ContainerFactory} (application
+ * properties in the parent context, persistence and services in the child one) against an embedded
+ * H2 database, without starting Tomcat. Only the persistence stack of {@code
+ * spring.jpa.persistence.mode} is created.
+ */
+public final class BenchmarkContext implements AutoCloseable {
+
+  private static final Map<String, String> PROPERTIES =
+      Map.ofEntries(
+          Map.entry("application.name", "generic-benchmark"),
+          Map.entry("application.version", "0.0.1"),
+          Map.entry("application.module", "benchmark"),
+          Map.entry("server.port", "0"),
+          Map.entry("server.contextPath", "/generic"),
+          Map.entry("server.apiPath", "/api/*"),
+          Map.entry("server.timeZone", "Europe/Madrid"),
+          Map.entry("server.servlet.encoding.force-response", "true"),
+          Map.entry("spring.profiles.active", "benchmark"),
+          Map.entry(
+              "spring.datasource.url",
+              "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;IGNORE_UNKNOWN_SETTINGS=TRUE"),
+          Map.entry("spring.datasource.driverClassName", "org.h2.Driver"),
+          Map.entry("spring.datasource.username", "sa"),
+          Map.entry("spring.datasource.password", ""),
+          Map.entry("spring.jpa.database", "H2"),
+          Map.entry("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect"),
+          Map.entry("spring.jpa.generate-ddl", "true"),
+          Map.entry("spring.jpa.open-in-view", "false"),
+          Map.entry("spring.jpa.properties.hibernate.synonyms", "false"),
+          Map.entry("spring.jpa.properties.hibernate.format_sql", "false"),
+          Map.entry("spring.jpa.properties.hibernate.show_sql", "false"),
+          Map.entry("spring.jpa.properties.hibernate.default_schema", "PUBLIC"),
+          Map.entry("spring.jpa.properties.hibernate.hbm2ddl.auto", "create"),
+          Map.entry("spring.jpa.properties.hibernate.hbm2ddl.import_files", ""),
+          Map.entry("spring.jpa.properties.hibernate.generate_statistics", "false"),
+          Map.entry("spring.jpa.properties.hibernate.enable_lazy_load_no_trans", "true"));
+
+  private final AnnotationConfigApplicationContext mainContext;
+  private final AnnotationConfigApplicationContext persistenceContext;
+
+  private BenchmarkContext(Map<String, String> overrides) {
+    mainContext = mainContext(overrides);
+
+    persistenceContext = new AnnotationConfigApplicationContext();
+    persistenceContext.setParent(mainContext);
+    persistenceContext.register(PersistenceConfiguration.class);
+    persistenceContext.refresh();
+  }
+
+  /**
+   * Starts a context with the default benchmark properties.
+   *
+   * @return the started context.
+   */
+  public static BenchmarkContext start() {
+    return new BenchmarkContext(Map.of());
+  }
+
+  /**
+   * Starts a context overriding some of the default benchmark properties.
+   *
+   * @param overrides the properties to override.
+   * @return the started context.
+   */
+  public static BenchmarkContext start(Map<String, String> overrides) {
+    return new BenchmarkContext(overrides);
+  }
+
+  public <T> T getBean(Class<T> type) {
+    return persistenceContext.getBean(type);
+  }
+
+  @Override
+  public void close() {
+    persistenceContext.close();
+    mainContext.close();
+  }
+
+  /**
+   * Starts the main context alone, with the application properties of the benchmarks.
+   *
+   * @param overrides the properties to override.
+   * @return the started main context.
+   */
+  static AnnotationConfigApplicationContext mainContext(Map<String, String> overrides) {
+    Properties properties = new Properties();
+    properties.putAll(PROPERTIES);
+    properties.putAll(overrides);
+
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.registerBean(
+        "benchmarkPropertySourcesPlaceholderConfigurer",
+        PropertySourcesPlaceholderConfigurer.class,
+        () -> placeholderConfigurer(properties));
+    context.register(MainConfiguration.class);
+    context.refresh();
+    return context;
+  }
+
+  private static PropertySourcesPlaceholderConfigurer placeholderConfigurer(Properties properties) {
+    PropertySourcesPlaceholderConfigurer configurer = new PropertySourcesPlaceholderConfigurer();
+    configurer.setProperties(properties);
+    return configurer;
+  }
+
+  @Configuration
+  @Import(ApplicationProperties.class)
+  static class MainConfiguration {}
+
+  @Configuration
+  @Import({
+    AsyncConfiguration.class,
+    JdbcConfiguration.class,
+    JpaConfiguration.class,
+    HibernateConfiguration.class,
+    MetricsConfiguration.class,
+    HibernateMetricsConfiguration.class,
+    ServerStatusScheduler.class
+  })
+  @ComponentScan(basePackages = ConfigurationConstants.SERVICES_PACKAGE)
+  static class PersistenceConfiguration {}
+}
@@ -0,0 +1,59 @@
+package org.barrikeit.benchmark.support;
+
+import java.util.Map;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.barrikeit.ContainerFactory;
+import org.barrikeit.application.ApplicationProperties;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * <b>Benchmark Server</b>
+ *
+ * <p>Starts the whole application, as {@code Main} does, on the embedded Tomcat of {@link
+ * ContainerFactory} and against the embedded H2 database of {@link BenchmarkContext}. The server
+ * listens on a random port.
+ */
+public final class BenchmarkServer implements AutoCloseable {
+
+  private final AnnotationConfigApplicationContext mainContext;
+  private final Tomcat tomcat;
+
+  private BenchmarkServer(Map<String, String> overrides) throws LifecycleException {
+    mainContext = BenchmarkContext.mainContext(overrides);
+    tomcat = ContainerFactory.embeddedTomcat(mainContext);
+    tomcat.start();
+  }
+
+  /**
+   * Starts a server overriding some of the default benchmark properties.
+   *
+   * @param overrides the properties to override.
+   * @return the started server.
+   * @throws LifecycleException if Tomcat fails to start.
+   */
+  public static BenchmarkServer start(Map<String, String> overrides) throws LifecycleException {
+    return new BenchmarkServer(overrides);
+  }
+
+  /**
+   * Returns the base URL of the API, such as {@code http://localhost:<port>/generic/api}.
+   *
+   * @return the base URL of the API.
+   */
+  public String getApiUrl() {
+    ApplicationProperties.ServerProperties serverProperties =
+        mainContext.getBean(ApplicationProperties.ServerProperties.class);
+    return "http://localhost:"
+        + tomcat.getConnector().getLocalPort()
+        + serverProperties.getContextPath()
+        + serverProperties.getApiPath().replace("/*", "");
+  }
+
+  @Override
+  public void close() throws LifecycleException {
+    tomcat.stop();
+    tomcat.destroy();
+    mainContext.close();
+  }
+}
@@ -0,0 +1,106 @@
+package org.barrikeit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationConfiguration;
+import org.barrikeit.config.HibernateConfiguration;
+import org.barrikeit.config.JdbcConfiguration;
+import org.barrikeit.config.JpaConfiguration;
+import org.barrikeit.config.MetricsConfiguration;
+import org.barrikeit.model.domain.GenericEntity;
+import org.barrikeit.service.migration.AccessMigrator;
+import org.barrikeit.util.constants.ConfigurationConstants;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * <b>MS Access Migration</b>
+ *
+ * <p>Migrates a table of an MS Access file into an entity with {@link AccessMigrator}, against the
+ * database of the application configuration and without starting the web server:
+ *
+ * <pre>
+ * AccessMigration [--restart] &lt;file&gt; &lt;table&gt; &lt;entity&gt; [column=field ...]
+ * </pre>
+ *
+ * <p>The entity is a simple class name of the entities package or a fully qualified one. Running
+ * the same migration again resumes it after the last committed row; {@code --restart} migrates the
+ * whole table again.
+ */
+@Log4j2
+public class AccessMigration {
+
+  private static final String RESTART = "--restart";
+  private static final String USAGE =
+      "Usage: AccessMigration [--restart] <file> <table> <entity> [column=field ...]";
+
+  private AccessMigration() {}
+
+  public static void main(String[] args) throws IOException, ClassNotFoundException {
+    boolean restart = args.length > 0 && RESTART.equals(args[0]);
+    int first = restart ? 1 : 0;
+    if (args.length - first < 3) {
+      throw new IllegalArgumentException(USAGE);
+    }
+    File file = new File(args[first]);
+    String table = args[first + 1];
+    Class<? extends GenericEntity<?>> entityClass = entityClass(args[first + 2]);
+    Map<String, String> columnMapping = new HashMap<>();
+    for (int i = first + 3; i < args.length; i++) {
+      String[] mapping = args[i].split("=", 2);
+      if (mapping.length != 2) {
+        throw new IllegalArgumentException(USAGE);
+      }
+      columnMapping.put(mapping[0], mapping[1]);
+    }
+
+    try (AnnotationConfigApplicationContext mainContext =
+            new AnnotationConfigApplicationContext(ApplicationConfiguration.class);
+        AnnotationConfigApplicationContext migrationContext = migrationContext(mainContext)) {
+      migrationContext
+          .getBean(AccessMigrator.class)
+          .migrate(file, table, entityClass, columnMapping, restart);
+    }
+  }
+
+  /**
+   * Starts the persistence beans needed by {@link AccessMigrator} as a child of the main context.
+   *
+   * @param mainContext the context with the application properties.
+   * @return the started migration context.
+   */
+  public static AnnotationConfigApplicationContext migrationContext(
+      AnnotationConfigApplicationContext mainContext) {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.setParent(mainContext);
+    context.register(MigrationConfiguration.class);
+    context.refresh();
+    return context;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Class<? extends GenericEntity<?>> entityClass(String name)
+      throws ClassNotFoundException {
+    Class<?> clazz =
+        Class.forName(
+            name.contains(".") ? name : ConfigurationConstants.ENTITIES_PACKAGE + "." + name);
+    if (!GenericEntity.class.isAssignableFrom(clazz)) {
+      throw new IllegalArgumentException(name + " is not a " + GenericEntity.class.getSimpleName());
+    }
+    return (Class<? extends GenericEntity<?>>) clazz;
+  }
+
+  @Configuration
+  @Import({
+    JdbcConfiguration.class,
+    JpaConfiguration.class,
+    HibernateConfiguration.class,
+    MetricsConfiguration.class,
+    AccessMigrator.class
+  })
+  static class MigrationConfiguration {}
+}
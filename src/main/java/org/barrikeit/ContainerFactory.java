@@ -2,13 +2,30 @@ package org.barrikeit;
 
 import static org.barrikeit.util.FileUtil.createTempFolder;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.extern.log4j.Log4j2;
 import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardVirtualThreadExecutor;
+import org.apache.catalina.filters.ExpiresFilter;
+import org.apache.catalina.servlets.DefaultServlet;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.apache.coyote.http11.Http11Nio2Protocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
 import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.config.ETagCompressionFilter;
+import org.barrikeit.config.HttpMetricsFilter;
+import org.barrikeit.config.LazyInitializationPostProcessor;
 import org.barrikeit.config.MvcConfiguration;
+import org.barrikeit.util.constants.ConfigurationConstants;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
@@ -16,6 +33,8 @@ import org.springframework.web.servlet.DispatcherServlet;
 @Log4j2
 public class ContainerFactory {
 
+  private static final String STATIC_SERVLET = "default";
+
   private ContainerFactory() {}
 
   public static void start(AnnotationConfigApplicationContext mainContext) {
@@ -23,12 +42,14 @@ public class ContainerFactory {
     startTomcat(tomcat);
   }
 
-  private static Tomcat embeddedTomcat(AnnotationConfigApplicationContext mainContext) {
+  public static Tomcat embeddedTomcat(AnnotationConfigApplicationContext mainContext) {
     // Get the serverProperties from the main context loaded from the application files
     ApplicationProperties.GenericProperties applicationProperties =
         mainContext.getBean(ApplicationProperties.GenericProperties.class);
     ApplicationProperties.ServerProperties serverProperties =
         mainContext.getBean(ApplicationProperties.ServerProperties.class);
+    ApplicationProperties.StartupProperties startupProperties =
+        mainContext.getBean(ApplicationProperties.StartupProperties.class);
     // Configure the tomcat
     int port = serverProperties.getPort();
     File baseDir = createTempFolder("embedded-tomcat", port);
@@ -37,11 +58,14 @@ public class ContainerFactory {
     tomcat.setSilent(true);
     tomcat.setAddDefaultWebXmlToWebapp(false);
     tomcat.setBaseDir(baseDir.getAbsolutePath());
-    tomcat.getConnector();
+    configureConnector(tomcat, serverProperties);
 
-    // Provide a proper base directory
+    // Provide a proper base directory, the one of the static files if they are served
+    File docBase = staticLocation(serverProperties);
     Context rootContext =
-        tomcat.addContext(serverProperties.getContextPath(), baseDir.getAbsolutePath());
+        tomcat.addContext(
+            serverProperties.getContextPath(),
+            (docBase != null ? docBase : baseDir).getAbsolutePath());
 
     // Create the Web Application Context
     AnnotationConfigWebApplicationContext applicationContext =
@@ -49,21 +73,197 @@ public class ContainerFactory {
     applicationContext.setParent(mainContext);
     applicationContext.register(MvcConfiguration.class);
     applicationContext.setServletContext(rootContext.getServletContext());
+    if (startupProperties.isLazyInit()) {
+      applicationContext.addBeanFactoryPostProcessor(new LazyInitializationPostProcessor());
+    }
+    long start = System.nanoTime();
     applicationContext.refresh();
+    log.info("***Web context started in {} ms", elapsedMillis(start));
+
+    // Record the latency of every request by route
+    addMetricsFilter(rootContext, applicationContext.getBean(MeterRegistry.class));
+    // Gzip the responses with a strong ETag, which the connector leaves uncompressed
+    if (serverProperties.isCompression()) {
+      addETagCompressionFilter(rootContext, serverProperties, applicationProperties.getName());
+    }
 
     // Set up the DispatcherServlet
     DispatcherServlet dispatcherServlet = new DispatcherServlet(applicationContext);
-    Tomcat.addServlet(rootContext, applicationProperties.getName(), dispatcherServlet);
+    Wrapper dispatcher =
+        Tomcat.addServlet(rootContext, applicationProperties.getName(), dispatcherServlet);
+    // The /async endpoints release the request thread while the database executor works
+    dispatcher.setAsyncSupported(true);
+    // Initialized with Tomcat, unless the first request may pay for it as for the lazy beans
+    dispatcher.setLoadOnStartup(startupProperties.isLazyInit() ? -1 : 1);
     rootContext.addServletMappingDecoded(serverProperties.getApiPath(), applicationProperties.getName());
+
+    // Serve the static files straight from Tomcat, outside of Spring
+    if (docBase != null) {
+      addStaticServlet(rootContext, serverProperties);
+    }
     return tomcat;
   }
 
+  private static File staticLocation(ApplicationProperties.ServerProperties serverProperties) {
+    String location = serverProperties.getStaticLocation();
+    if (location == null || location.isBlank()) {
+      return null;
+    }
+    File directory = new File(location);
+    if (!directory.isDirectory()) {
+      log.warn("The static location {} is not a directory, no static file is served", location);
+      return null;
+    }
+    return directory;
+  }
+
+  private static void addStaticServlet(
+      Context rootContext, ApplicationProperties.ServerProperties serverProperties) {
+    log.info("***Serving the static files of {}", rootContext.getDocBase());
+    Wrapper staticServlet = Tomcat.addServlet(rootContext, STATIC_SERVLET, new DefaultServlet());
+    staticServlet.addInitParameter("listings", Boolean.FALSE.toString());
+    staticServlet.addInitParameter(
+        "precompressed", String.valueOf(serverProperties.isStaticPrecompressed()));
+    staticServlet.addInitParameter(
+        "sendfileSize", String.valueOf(serverProperties.getStaticSendfileSize()));
+    rootContext.addServletMappingDecoded("/", STATIC_SERVLET);
+
+    // Let the clients cache the static files, revalidated with their ETag once expired
+    FilterDef filterDef = new FilterDef();
+    filterDef.setFilterName(ExpiresFilter.class.getSimpleName());
+    filterDef.setFilter(new ExpiresFilter());
+    filterDef.addInitParameter(
+        "ExpiresDefault", "access plus " + serverProperties.getStaticCacheMaxAge() + " seconds");
+    rootContext.addFilterDef(filterDef);
+
+    FilterMap filterMap = new FilterMap();
+    filterMap.setFilterName(filterDef.getFilterName());
+    filterMap.addServletName(STATIC_SERVLET);
+    rootContext.addFilterMap(filterMap);
+  }
+
+  private static void addMetricsFilter(Context rootContext, MeterRegistry meterRegistry) {
+    FilterDef filterDef = new FilterDef();
+    filterDef.setFilterName(HttpMetricsFilter.class.getSimpleName());
+    filterDef.setFilter(new HttpMetricsFilter(meterRegistry));
+    filterDef.setAsyncSupported(Boolean.TRUE.toString());
+    rootContext.addFilterDef(filterDef);
+
+    FilterMap filterMap = new FilterMap();
+    filterMap.setFilterName(filterDef.getFilterName());
+    filterMap.addURLPattern("/*");
+    rootContext.addFilterMap(filterMap);
+  }
+
+  private static void addETagCompressionFilter(
+      Context rootContext,
+      ApplicationProperties.ServerProperties serverProperties,
+      String servletName) {
+    FilterDef filterDef = new FilterDef();
+    filterDef.setFilterName(ETagCompressionFilter.class.getSimpleName());
+    filterDef.setFilter(
+        new ETagCompressionFilter(
+            serverProperties.getCompressionMinSize(), serverProperties.getCompressionMimeTypes()));
+    filterDef.setAsyncSupported(Boolean.TRUE.toString());
+    rootContext.addFilterDef(filterDef);
+
+    FilterMap filterMap = new FilterMap();
+    filterMap.setFilterName(filterDef.getFilterName());
+    filterMap.addServletName(servletName);
+    rootContext.addFilterMap(filterMap);
+  }
+
+  private static void configureConnector(
+      Tomcat tomcat, ApplicationProperties.ServerProperties serverProperties) {
+    if (serverProperties.isNio2()) {
+      log.info("***Creating the connector with the NIO2 protocol");
+      Connector connector = new Connector(Http11Nio2Protocol.class.getName());
+      connector.setPort(serverProperties.getPort());
+      tomcat.setConnector(connector);
+    }
+    Connector connector = tomcat.getConnector();
+    if (!(connector.getProtocolHandler() instanceof AbstractHttp11Protocol<?> protocol)) {
+      return;
+    }
+    if (serverProperties.getSocketReceiveBuffer() > 0) {
+      connector.setProperty(
+          "socket.rxBufSize", String.valueOf(serverProperties.getSocketReceiveBuffer()));
+    }
+    if (serverProperties.getSocketSendBuffer() > 0) {
+      connector.setProperty(
+          "socket.txBufSize", String.valueOf(serverProperties.getSocketSendBuffer()));
+    }
+    if (serverProperties.isHttp2()) {
+      log.info("***Accepting HTTP/2 in clear text (h2c)");
+      Http2Protocol http2 = new Http2Protocol();
+      http2.setMaxConcurrentStreams(serverProperties.getHttp2MaxConcurrentStreams());
+      http2.setKeepAliveTimeout(serverProperties.getHttp2KeepAliveTimeout());
+      connector.addUpgradeProtocol(http2);
+      connector.setMaxSavePostSize(serverProperties.getHttp2MaxUpgradeBodySize());
+    }
+    protocol.setAcceptCount(serverProperties.getAcceptCount());
+    protocol.setMaxConnections(serverProperties.getMaxConnections());
+    protocol.setConnectionTimeout(serverProperties.getConnectionTimeout());
+    protocol.setKeepAliveTimeout(serverProperties.getKeepAliveTimeout());
+    protocol.setMaxKeepAliveRequests(serverProperties.getMaxKeepAliveRequests());
+    protocol.setUseSendfile(serverProperties.isUseSendfile());
+
+    // The connector compresses the responses; a sendfile response is sent as it is
+    if (serverProperties.isCompression()) {
+      protocol.setCompression("on");
+      protocol.setCompressionMinSize(serverProperties.getCompressionMinSize());
+      protocol.setCompressibleMimeType(serverProperties.getCompressionMimeTypes());
+    }
+
+    // Virtual threads need Java 21, otherwise the executor fails when the connector starts
+    if (serverProperties.isVirtualThreads() && Runtime.version().feature() >= 21) {
+      log.info("***Running the requests on virtual threads");
+      StandardVirtualThreadExecutor executor = new StandardVirtualThreadExecutor();
+      executor.setName("virtualThreadExecutor");
+      executor.setNamePrefix("http-virtual-");
+      tomcat.getService().addExecutor(executor);
+      protocol.setExecutor(executor);
+      return;
+    }
+    if (serverProperties.isVirtualThreads()) {
+      log.warn(
+          "Virtual threads require Java 21, running on Java {} with platform threads",
+          Runtime.version().feature());
+    }
+    log.info(
+        "***Running the requests on up to {} platform threads", serverProperties.getMaxThreads());
+    protocol.setMaxThreads(serverProperties.getMaxThreads());
+    protocol.setMinSpareThreads(serverProperties.getMinSpareThreads());
+  }
+
+  private static long elapsedMillis(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
   private static void startTomcat(Tomcat tomcat) {
     try {
+      long start = System.nanoTime();
       tomcat.start();
 
       String url = tomcat.getHost().getName() + ":" + tomcat.getConnector().getLocalPort();
       log.debug("Application started on {}", url);
+      log.info(
+          "***Tomcat started on {} in {} ms, application ready {} ms after the JVM start",
+          url,
+          elapsedMillis(start),
+          ProcessHandle.current()
+              .info()
+              .startInstant()
+              .map(jvmStart -> Duration.between(jvmStart, Instant.now()).toMillis())
+              .orElse(-1L));
+      if (Boolean.getBoolean(ConfigurationConstants.STARTUP_EXIT_PROPERTY)) {
+        // Training run of the class data sharing archive: stop once every startup class is loaded
+        log.info(
+            "***Stopping after the startup ({})", ConfigurationConstants.STARTUP_EXIT_PROPERTY);
+        tomcat.stop();
+        tomcat.destroy();
+        return;
+      }
       // UserController controller = applicationContext.getBean(UserController.class);
       // controller.save(UserDto.builder().username("username").email("mail@generic.es").build());
 
@@ -2,15 +2,22 @@ package org.barrikeit;
 
 import lombok.extern.log4j.Log4j2;
 import org.barrikeit.application.ApplicationConfiguration;
+import org.barrikeit.util.constants.ConfigurationConstants;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 @Log4j2
 public class Main {
 
   public static void main(String[] args) {
+    long start = System.nanoTime();
     AnnotationConfigApplicationContext mainContext =
         new AnnotationConfigApplicationContext(ApplicationConfiguration.class);
     log.debug("Main Context started");
+    log.info("***Main context started in {} ms", (System.nanoTime() - start) / 1_000_000);
     ContainerFactory.start(mainContext);
+    if (Boolean.getBoolean(ConfigurationConstants.STARTUP_EXIT_PROPERTY)) {
+      mainContext.close();
+      System.exit(0);
+    }
   }
 }
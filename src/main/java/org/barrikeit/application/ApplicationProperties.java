@@ -3,6 +3,8 @@ package org.barrikeit.application;
 import java.util.Properties;
 import lombok.Getter;
 import lombok.Setter;
+import org.barrikeit.util.TimeUtil;
+import org.barrikeit.util.constants.ConfigurationConstants;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
@@ -62,6 +64,296 @@ public class ApplicationProperties {
 
     @Value("${server.servlet.encoding.force-response}")
     private boolean forceResponse;
+
+    /** Zone of the dates of the application, applied to {@link TimeUtil} as soon as it is set. */
+    private String timeZone;
+
+    /**
+     * Threads running the requests: {@code platform} (pooled, bounded by {@code threads.max}) or
+     * {@code virtual} (one virtual thread per request, Java 21 or later).
+     */
+    @Value("${server.tomcat.executor:platform}")
+    private String executor;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int maxThreads;
+
+    @Value("${server.tomcat.threads.min-spare:10}")
+    private int minSpareThreads;
+
+    @Value("${server.tomcat.accept-count:100}")
+    private int acceptCount;
+
+    @Value("${server.tomcat.max-connections:8192}")
+    private int maxConnections;
+
+    @Value("${server.tomcat.connection-timeout:20000}")
+    private int connectionTimeout;
+
+    @Value("${server.tomcat.keep-alive-timeout:20000}")
+    private int keepAliveTimeout;
+
+    @Value("${server.tomcat.max-keep-alive-requests:100}")
+    private int maxKeepAliveRequests;
+
+    /**
+     * I/O of the connector: {@code nio} (selector polling the idle connections, the default) or
+     * {@code nio2} (asynchronous channels completing on the executor).
+     */
+    @Value("${server.tomcat.protocol:nio}")
+    private String protocol;
+
+    /** Bytes of the socket receive buffer, {@code 0} keeps the default of the operating system. */
+    @Value("${server.tomcat.socket.receive-buffer:0}")
+    private int socketReceiveBuffer;
+
+    /** Bytes of the socket send buffer, {@code 0} keeps the default of the operating system. */
+    @Value("${server.tomcat.socket.send-buffer:0}")
+    private int socketSendBuffer;
+
+    /**
+     * Whether the connector accepts HTTP/2 in clear text (h2c), upgraded from an HTTP/1.1 request
+     * or with prior knowledge, so a client multiplexes its requests over a single connection.
+     */
+    @Value("${server.http2.enabled:false}")
+    private boolean http2;
+
+    /**
+     * Bytes of the body of a request upgraded to h2c, buffered by the connector until the upgrade
+     * completes. A larger body is refused with 413, so the clients that upgrade on their first
+     * request should not send a large one then.
+     */
+    @Value("${server.http2.max-upgrade-body-size:4096}")
+    private int http2MaxUpgradeBodySize;
+
+    /** Streams a client may have open at once on an HTTP/2 connection. */
+    @Value("${server.http2.max-concurrent-streams:100}")
+    private int http2MaxConcurrentStreams;
+
+    /** Milliseconds an idle HTTP/2 connection is kept open, {@code -1} for no limit. */
+    @Value("${server.http2.keep-alive-timeout:20000}")
+    private long http2KeepAliveTimeout;
+
+    /** Whether the connector writes every file with sendfile, without copying it to the heap. */
+    @Value("${server.tomcat.use-sendfile:true}")
+    private boolean useSendfile;
+
+    /** Whether the connector gzips the responses for the clients that accept it. */
+    @Value("${server.compression.enabled:true}")
+    private boolean compression;
+
+    /** Bytes a response must reach to be compressed, smaller ones are not worth the CPU. */
+    @Value("${server.compression.min-response-size:2048}")
+    private int compressionMinSize;
+
+    @Value(
+        "${server.compression.mime-types:application/json,application/x-ndjson,"
+            + "application/problem+json,text/html,text/xml,text/plain,text/css,text/csv,"
+            + "text/javascript,application/javascript,image/svg+xml}")
+    private String compressionMimeTypes;
+
+    /** Directory of the static files served under the context path, none if it is empty. */
+    @Value("${server.static.location:}")
+    private String staticLocation;
+
+    /**
+     * Whether a static file is answered with its {@code .br} or {@code .gz} variant, compressed
+     * ahead of time at the highest level, when there is one and the client accepts it.
+     */
+    @Value("${server.static.precompressed:true}")
+    private boolean staticPrecompressed;
+
+    /** Seconds the clients may cache a static file, in its {@code Cache-Control} header. */
+    @Value("${server.static.cache-max-age:86400}")
+    private int staticCacheMaxAge;
+
+    /** Kilobytes a static file must reach to be sent with sendfile instead of the buffer. */
+    @Value("${server.static.sendfile-size:48}")
+    private int staticSendfileSize;
+
+    public boolean isVirtualThreads() {
+      return ConfigurationConstants.EXECUTOR_VIRTUAL.equalsIgnoreCase(getExecutor());
+    }
+
+    public boolean isNio2() {
+      return ConfigurationConstants.PROTOCOL_NIO2.equalsIgnoreCase(getProtocol());
+    }
+
+    @Value("${server.timeZone}")
+    public void setTimeZone(String timeZone) {
+      this.timeZone = timeZone;
+      TimeUtil.setZone(timeZone);
+    }
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class StartupProperties {
+    /**
+     * Whether the controllers and services of the web context are created on their first use
+     * instead of at startup, so the server listens sooner and the first requests pay for them.
+     */
+    @Value("${application.startup.lazy-init:false}")
+    private boolean lazyInit;
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class HealthProperties {
+    /** Milliseconds between two runs of the health checks. */
+    @Value("${application.health.interval:10000}")
+    private long interval;
+
+    /** Milliseconds a check may take before it is reported as down. */
+    @Value("${application.health.timeout:2000}")
+    private long timeout;
+
+    @Value("${application.health.disk.path:/}")
+    private String diskPath;
+
+    @Value("${application.health.disk.min-free:104857600}")
+    private long diskMinFree;
+
+    /** Maximum ratio of the heap in use, from 0 to 1. */
+    @Value("${application.health.memory.max-heap-usage:0.95}")
+    private double maxHeapUsage;
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class CacheProperties {
+    /** Entities whose DTOs are cached by their service, by simple class name. */
+    @Value("${application.cache.dto.entities:}")
+    private String[] dtoEntities;
+
+    @Value("${application.cache.dto.maximum-size:10000}")
+    private long dtoMaximumSize;
+
+    /** Milliseconds an entry is kept after it was written; {@code 0} keeps it until evicted. */
+    @Value("${application.cache.dto.expire-after-write:600000}")
+    private long dtoExpireAfterWrite;
+
+    @Value("${application.cache.version.maximum-size:100000}")
+    private long versionMaximumSize;
+
+    /**
+     * Milliseconds the version of a versioned entity is kept to answer conditional requests. Writes
+     * through the service evict it; this bounds how long a write made elsewhere goes unnoticed.
+     */
+    @Value("${application.cache.version.expire-after-write:10000}")
+    private long versionExpireAfterWrite;
+
+    /** Whether the concurrent finds of the same identifier share a single database read. */
+    @Value("${application.cache.single-flight:true}")
+    private boolean singleFlight;
+
+    public boolean isDtoCached(Class<?> entityClass) {
+      for (String entity : getDtoEntities()) {
+        if (entity.trim().equalsIgnoreCase(entityClass.getSimpleName())) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class ProjectionProperties {
+    /** Entities whose DTOs are read with a projection query, by simple class name. */
+    @Value("${application.projection.entities:}")
+    private String[] entities;
+
+    public boolean isProjected(Class<?> entityClass) {
+      for (String entity : getEntities()) {
+        if (entity.trim().equalsIgnoreCase(entityClass.getSimpleName())) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class ExportProperties {
+    /** Rows of an XLSX export kept in memory; the older ones are flushed to a temporary file. */
+    @Value("${application.export.xlsx.window-size:100}")
+    private int xlsxWindowSize;
+
+    @Value("${application.export.xlsx.compress-temp-files:true}")
+    private boolean xlsxCompressTempFiles;
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class ImportProperties {
+    /** Threads that convert the rows into DTOs; {@code 0} uses one per processor. */
+    @Value("${application.import.workers:0}")
+    private int workers;
+
+    /** Rows waiting between two stages of an import before the previous stage blocks. */
+    @Value("${application.import.queue-capacity:1000}")
+    private int queueCapacity;
+
+    /** Errors listed in the result of an import; the rest are only counted. */
+    @Value("${application.import.max-errors:1000}")
+    private int maxErrors;
+
+    /** Imports running at the same time; the next ones are refused with 503 until one ends. */
+    @Value("${application.import.concurrent:2}")
+    private int concurrent;
+
+    public int workerThreads() {
+      return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class MigrationProperties {
+    /** Source rows read in each transaction; the checkpoint is saved after every commit. */
+    @Value("${application.migration.commit-interval:10000}")
+    private int commitInterval;
+
+    /** Folder of the checkpoint files; empty keeps them next to the migrated file. */
+    @Value("${application.migration.checkpoint-directory:}")
+    private String checkpointDirectory;
+  }
+
+  @Getter
+  @Setter
+  @Component
+  public static class AsyncProperties {
+    /** Threads of the database executor; {@code 0} uses one per connection of the pool. */
+    @Value("${application.async.threads:0}")
+    private int threads;
+
+    /** Tasks waiting for a thread of the database executor before new ones are rejected. */
+    @Value("${application.async.queue-capacity:100}")
+    private int queueCapacity;
+
+    /**
+     * What to do with a task once the queue is full: {@code abort} (the request fails with 503) or
+     * {@code caller-runs} (the request thread runs it, slowing down the callers).
+     */
+    @Value("${application.async.rejection-policy:abort}")
+    private String rejectionPolicy;
+
+    /** Milliseconds an asynchronous request waits for its result before failing with 503. */
+    @Value("${application.async.timeout:30000}")
+    private long timeout;
+
+    public boolean isCallerRuns() {
+      return ConfigurationConstants.REJECTION_CALLER_RUNS.equalsIgnoreCase(getRejectionPolicy());
+    }
   }
 
   @Getter
@@ -80,6 +372,30 @@ public class ApplicationProperties {
     @Value("${spring.datasource.password}")
     private String password;
 
+    @Value("${spring.datasource.hikari.pool-name:Hikari}")
+    private String poolName;
+
+    @Value("${spring.datasource.hikari.minimum-idle:5}")
+    private int minimumIdle;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @Value("${spring.datasource.hikari.idle-timeout:600000}")
+    private long idleTimeout;
+
+    @Value("${spring.datasource.hikari.max-lifetime:1800000}")
+    private long maxLifetime;
+
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long connectionTimeout;
+
+    @Value("${spring.datasource.hikari.datasource-properties.includeSynonyms:false}")
+    private String includeSynonyms;
+
+    @Value("${spring.datasource.hikari.datasource-properties.reWriteBatchedInserts:}")
+    private String reWriteBatchedInserts;
+
     @Value("${spring.jpa.database}")
     private String database;
 
@@ -116,6 +432,91 @@ public class ApplicationProperties {
     @Value("${spring.jpa.properties.hibernate.enable_lazy_load_no_trans}")
     private String enableLazyLoadNoTrans;
 
+    /** Milliseconds from which a query is logged and counted as slow; {@code 0} disables it. */
+    @Value("${spring.jpa.properties.hibernate.log_slow_query:0}")
+    private long logSlowQuery;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_versioned_data:true}")
+    private String batchVersionedData;
+
+    @Value("${spring.jpa.properties.hibernate.order_inserts:true}")
+    private String orderInserts;
+
+    @Value("${spring.jpa.properties.hibernate.order_updates:true}")
+    private String orderUpdates;
+
+    @Value("${spring.jpa.properties.hibernate.default_batch_fetch_size:10}")
+    private int defaultBatchFetchSize;
+
+    @Value("${spring.jpa.properties.hibernate.cache.use_second_level_cache:false}")
+    private String useSecondLevelCache;
+
+    @Value("${spring.jpa.properties.hibernate.cache.use_query_cache:false}")
+    private String useQueryCache;
+
+    @Value("${spring.jpa.properties.hibernate.cache.region.factory_class:jcache}")
+    private String cacheRegionFactory;
+
+    @Value(
+        "${spring.jpa.properties.hibernate.javax.cache.provider:"
+            + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider}")
+    private String cacheProvider;
+
+    /**
+     * Caffeine configuration of the cache regions. When empty the {@code application.conf} of the
+     * classpath is used; otherwise it must be a file, as a resource inside a jar is not supported
+     * by the provider.
+     */
+    @Value("${spring.jpa.properties.hibernate.javax.cache.uri:}")
+    private String cacheUri;
+
+    @Value("${spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy:create-warn}")
+    private String missingCacheStrategy;
+
+    /**
+     * Which entities are stored in the second-level cache. With {@code ENABLE_SELECTIVE} only the
+     * entities annotated with {@code @Cacheable} are cached.
+     */
+    @Value("${spring.jpa.properties.jakarta.persistence.sharedCache.mode:ENABLE_SELECTIVE}")
+    private String sharedCacheMode;
+
+    /** Number of entities written between each flush and clear of the bulk operations. */
+    @Value("${spring.jpa.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
+    /** Identifier generation of the entities: {@code identity} or {@code sequence} (pooled). */
+    @Value("${spring.jpa.id-strategy:identity}")
+    private String idStrategy;
+
+    /**
+     * The only persistence stack bootstrapped: {@code jpa} (an {@code EntityManagerFactory} with a
+     * {@code JpaTransactionManager}) or {@code hibernate} (a native {@code SessionFactory} with a
+     * {@code HibernateTransactionManager}). Both build the whole metamodel, so only one is built.
+     */
+    @Value("${spring.jpa.persistence.mode:jpa}")
+    private String persistenceMode;
+
+    public boolean isPersistenceMode(String mode) {
+      return mode.equalsIgnoreCase(getPersistenceMode());
+    }
+
+    /**
+     * Mapping files applied on top of the annotations. With the {@code sequence} strategy the
+     * {@code IDENTITY} generation of {@code GenericEntity} is replaced by a pooled sequence per
+     * entity, which allows Hibernate to batch the inserts.
+     *
+     * @return the mapping resources to register in the persistence unit.
+     */
+    public String[] mappingResources() {
+      if (ConfigurationConstants.ID_STRATEGY_SEQUENCE.equalsIgnoreCase(getIdStrategy())) {
+        return new String[] {ConfigurationConstants.SEQUENCE_ID_MAPPING};
+      }
+      return new String[0];
+    }
+
     public Properties properties() {
       Properties properties = new Properties();
       properties.put("hibernate.dialect", getDialect());
@@ -124,8 +525,24 @@ public class ApplicationProperties {
       properties.put("hibernate.hbm2ddl.auto", getHbm2ddlAuto());
       properties.put("hibernate.hbm2ddl.import_files", getImportFiles());
       properties.put("hibernate.generate_statistics", getGenerateStatistics());
-      properties.put("hibernate.jdbc.batch_size", "5");
-      properties.put("hibernate.default_batch_fetch_size", "10");
+      properties.put("hibernate.log_slow_query", String.valueOf(getLogSlowQuery()));
+      properties.put("hibernate.jdbc.batch_size", String.valueOf(getJdbcBatchSize()));
+      properties.put("hibernate.jdbc.batch_versioned_data", getBatchVersionedData());
+      properties.put("hibernate.order_inserts", getOrderInserts());
+      properties.put("hibernate.order_updates", getOrderUpdates());
+      properties.put(
+          "hibernate.default_batch_fetch_size", String.valueOf(getDefaultBatchFetchSize()));
+      properties.put("hibernate.cache.use_second_level_cache", getUseSecondLevelCache());
+      properties.put("hibernate.cache.use_query_cache", getUseQueryCache());
+      properties.put("jakarta.persistence.sharedCache.mode", getSharedCacheMode());
+      if (Boolean.parseBoolean(getUseSecondLevelCache())) {
+        properties.put("hibernate.cache.region.factory_class", getCacheRegionFactory());
+        properties.put("hibernate.javax.cache.provider", getCacheProvider());
+        if (!getCacheUri().isBlank()) {
+          properties.put("hibernate.javax.cache.uri", getCacheUri());
+        }
+        properties.put("hibernate.javax.cache.missing_cache_strategy", getMissingCacheStrategy());
+      }
       return properties;
     }
   }
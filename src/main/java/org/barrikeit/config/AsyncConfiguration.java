@@ -0,0 +1,141 @@
+package org.barrikeit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * <b>Async Configuration Class</b>
+ *
+ * <p>Sets up the {@code databaseExecutor} that runs the asynchronous operations of the services, so
+ * the request threads are released while the queries run. The executor is bounded in threads and
+ * queue: it has one thread per connection of the pool by default, as more threads would only wait
+ * for a connection, and once the queue is full the new tasks are rejected (or run by the caller,
+ * see {@code application.async.rejection-policy}) instead of piling up during a latency spike.
+ *
+ * <p>It also sets up the {@code importExecutor} shared by the file imports, whose threads are
+ * bounded by {@code application.import.concurrent}: see {@link #importExecutor}.
+ *
+ * <p>The executors publish the {@code executor.active}, {@code executor.queued} and {@code
+ * executor.pool.size} gauges, tagged with {@code name=database} or {@code name=import}, and the
+ * database one the {@code executor.rejected} counter.
+ */
+@Log4j2
+@Configuration
+public class AsyncConfiguration implements WebMvcConfigurer {
+
+  private static final String EXECUTOR_NAME = "database";
+  private static final String IMPORT_EXECUTOR_NAME = "import";
+
+  private final ApplicationProperties.AsyncProperties asyncProperties;
+
+  public AsyncConfiguration(ApplicationProperties.AsyncProperties asyncProperties) {
+    this.asyncProperties = asyncProperties;
+  }
+
+  /**
+   * Creates the bounded executor of the database operations.
+   *
+   * @param databaseProperties the database properties, whose pool size sizes the executor.
+   * @param meterRegistry the registry where the executor metrics are published.
+   * @return the database executor.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor databaseExecutor(
+      ApplicationProperties.DatabaseProperties databaseProperties, MeterRegistry meterRegistry) {
+    int threads =
+        asyncProperties.getThreads() > 0
+            ? asyncProperties.getThreads()
+            : databaseProperties.getMaximumPoolSize();
+    log.info(
+        "***Creating database executor with {} threads and a queue of {} tasks",
+        threads,
+        asyncProperties.getQueueCapacity());
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(asyncProperties.getQueueCapacity());
+    executor.setThreadNamePrefix("Database-");
+    executor.setRejectedExecutionHandler(rejectionHandler(meterRegistry));
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationMillis(asyncProperties.getTimeout());
+    registerGauges(executor, EXECUTOR_NAME, meterRegistry);
+    return executor;
+  }
+
+  /**
+   * Creates the executor shared by the file imports. An import runs its reader and its converters
+   * on it at the same time, as they feed each other through bounded queues, so the executor has the
+   * threads of {@code application.import.concurrent} imports and {@link
+   * org.barrikeit.service.importer.DtoImporter} refuses the next imports with 503 instead of
+   * queueing them. The queue only holds the tasks of an import while the threads of the previous
+   * one finish.
+   *
+   * @param importProperties the import properties, that size the executor.
+   * @param meterRegistry the registry where the executor metrics are published.
+   * @return the import executor.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor importExecutor(
+      ApplicationProperties.ImportProperties importProperties, MeterRegistry meterRegistry) {
+    int threads = importProperties.getConcurrent() * (importProperties.workerThreads() + 1);
+    log.info(
+        "***Creating import executor with {} threads for {} imports",
+        threads,
+        importProperties.getConcurrent());
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(threads);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix("Import-");
+    registerGauges(executor, IMPORT_EXECUTOR_NAME, meterRegistry);
+    return executor;
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setDefaultTimeout(asyncProperties.getTimeout());
+  }
+
+  private static void registerGauges(
+      ThreadPoolTaskExecutor executor, String name, MeterRegistry meterRegistry) {
+    Gauge.builder("executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .description("Threads of the executor running a task")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+        .description("Tasks waiting for a thread of the executor")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+        .description("Threads of the executor")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  private RejectedExecutionHandler rejectionHandler(MeterRegistry meterRegistry) {
+    Counter rejected =
+        Counter.builder("executor.rejected")
+            .description("Tasks rejected because the queue of the executor was full")
+            .tag("name", EXECUTOR_NAME)
+            .register(meterRegistry);
+    RejectedExecutionHandler policy =
+        asyncProperties.isCallerRuns()
+            ? new ThreadPoolExecutor.CallerRunsPolicy()
+            : new ThreadPoolExecutor.AbortPolicy();
+    return (task, executor) -> {
+      rejected.increment();
+      policy.rejectedExecution(task, executor);
+    };
+  }
+}
@@ -0,0 +1,30 @@
+package org.barrikeit.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.context.annotation.Conditional;
+
+/**
+ * <b>Conditional On Persistence Mode</b>
+ *
+ * <p>Registers the annotated configuration only when {@code spring.jpa.persistence.mode} is the
+ * given mode, so only one persistence stack is bootstrapped.
+ *
+ * @see PersistenceModeCondition
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Conditional(PersistenceModeCondition.class)
+public @interface ConditionalOnPersistenceMode {
+
+  /**
+   * The persistence mode, {@code jpa} or {@code hibernate}.
+   *
+   * @return the mode for which the configuration is registered.
+   */
+  String value();
+}
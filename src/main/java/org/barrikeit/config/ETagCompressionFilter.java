@@ -0,0 +1,423 @@
+package org.barrikeit.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * <b>ETag Compression Filter</b>
+ *
+ * <p>Gzips the responses that carry a strong {@code ETag}, which the connector never compresses: a
+ * strong tag identifies the exact bytes of a body, so Tomcat would rather not compress them than
+ * send other bytes under the same tag. The filter compresses them itself and gives the gzipped
+ * representation its own strong tag, the original one with a {@code -gzip} suffix, along with
+ * {@code Vary: Accept-Encoding}.
+ *
+ * <p>The suffix is removed from the tags of the {@code If-None-Match} and {@code If-Match} headers,
+ * so the controllers compare their own tags, and a {@code 304 Not Modified} answers with the tag in
+ * the form the client sent. The body is buffered up to {@code server.compression.min-response-size}
+ * bytes before deciding, and only the {@code server.compression.mime-types} are compressed. The
+ * responses without a strong tag go through untouched, for the connector to compress.
+ */
+public class ETagCompressionFilter implements Filter {
+
+  private static final String GZIP = "gzip";
+  private static final String SUFFIX = "-" + GZIP;
+  private static final String WEAK_PREFIX = "W/";
+
+  private final int minSize;
+  private final Set<String> mimeTypes;
+
+  public ETagCompressionFilter(int minSize, String mimeTypes) {
+    this.minSize = Math.max(1, minSize);
+    this.mimeTypes =
+        Arrays.stream(mimeTypes.split(","))
+            .map(type -> type.trim().toLowerCase(Locale.ROOT))
+            .filter(type -> !type.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    if (!(request instanceof HttpServletRequest httpRequest)
+        || !(response instanceof HttpServletResponse httpResponse)) {
+      chain.doFilter(request, response);
+      return;
+    }
+    ConditionalRequest conditionalRequest = new ConditionalRequest(httpRequest);
+    CompressingResponse compressingResponse =
+        new CompressingResponse(
+            httpResponse,
+            conditionalRequest,
+            acceptsGzip(httpRequest.getHeaders("Accept-Encoding")));
+    chain.doFilter(conditionalRequest, compressingResponse);
+    if (conditionalRequest.isAsyncStarted()) {
+      conditionalRequest.getAsyncContext().addListener(new FinishListener(compressingResponse));
+    } else {
+      compressingResponse.finish();
+    }
+  }
+
+  private static boolean acceptsGzip(Enumeration<String> acceptEncodings) {
+    if (acceptEncodings == null) {
+      return false;
+    }
+    for (String header : Collections.list(acceptEncodings)) {
+      for (String coding : header.split(",")) {
+        String[] parameters = coding.split(";");
+        if (GZIP.equalsIgnoreCase(parameters[0].trim())
+            && Arrays.stream(parameters)
+                .skip(1)
+                .map(String::trim)
+                .noneMatch(q -> q.matches("q=0(\\.0*)?"))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isStrong(String etag) {
+    return etag != null && !etag.startsWith(WEAK_PREFIX) && etag.endsWith("\"");
+  }
+
+  private static String gzipETag(String etag) {
+    return etag.substring(0, etag.length() - 1) + SUFFIX + "\"";
+  }
+
+  /** Removes the {@code -gzip} suffix from the tags of the conditional headers. */
+  private static final class ConditionalRequest extends HttpServletRequestWrapper {
+
+    private ConditionalRequest(HttpServletRequest request) {
+      super(request);
+    }
+
+    @Override
+    public String getHeader(String name) {
+      String value = super.getHeader(name);
+      return isConditional(name) && value != null ? strip(value) : value;
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      Enumeration<String> values = super.getHeaders(name);
+      if (!isConditional(name) || values == null) {
+        return values;
+      }
+      return Collections.enumeration(
+          Collections.list(values).stream().map(ConditionalRequest::strip).toList());
+    }
+
+    /** Whether the client sent the gzipped form of a tag in {@code If-None-Match}. */
+    private boolean sentGzipETag(String etag) {
+      return Collections.list(super.getHeaders(HttpHeaders.IF_NONE_MATCH)).stream()
+          .anyMatch(value -> value.contains(gzipETag(etag)));
+    }
+
+    private static boolean isConditional(String name) {
+      return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)
+          || HttpHeaders.IF_MATCH.equalsIgnoreCase(name);
+    }
+
+    private static String strip(String value) {
+      return value.replace(SUFFIX + "\"", "\"");
+    }
+  }
+
+  /**
+   * Holds back the strong {@code ETag} and the first bytes of the body of a response, until it is
+   * known whether the response is compressed.
+   */
+  private final class CompressingResponse extends HttpServletResponseWrapper {
+
+    private final ConditionalRequest request;
+    private final boolean acceptsGzip;
+    private String etag;
+    private long contentLength = -1;
+    private BufferingOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean finished;
+
+    private CompressingResponse(
+        HttpServletResponse response, ConditionalRequest request, boolean acceptsGzip) {
+      super(response);
+      this.request = request;
+      this.acceptsGzip = acceptsGzip;
+    }
+
+    /** Whether the response is still deciding: it has a strong tag and a client that gzips. */
+    private boolean isPending() {
+      return etag != null && (outputStream == null || !outputStream.isDecided());
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+      if (!intercept(name, value)) {
+        super.setHeader(name, value);
+      }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+      if (!intercept(name, value)) {
+        super.addHeader(name, value);
+      }
+    }
+
+    /** Holds back the strong tag, and the length of a body that may be compressed. */
+    private boolean intercept(String name, String value) {
+      if (HttpHeaders.ETAG.equalsIgnoreCase(name)
+          && acceptsGzip
+          && isStrong(value)
+          && outputStream == null) {
+        etag = value;
+        return true;
+      }
+      if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && isPending()) {
+        contentLength = value != null ? Long.parseLong(value) : -1;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+      return (HttpHeaders.ETAG.equalsIgnoreCase(name) && isPending()) || super.containsHeader(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+      return HttpHeaders.ETAG.equalsIgnoreCase(name) && isPending() ? etag : super.getHeader(name);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+      return HttpHeaders.ETAG.equalsIgnoreCase(name) && isPending()
+          ? List.of(etag)
+          : super.getHeaders(name);
+    }
+
+    @Override
+    public void setContentLength(int length) {
+      setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+      if (isPending()) {
+        contentLength = length;
+      } else {
+        super.setContentLengthLong(length);
+      }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (etag == null) {
+        return super.getOutputStream();
+      }
+      if (outputStream == null) {
+        outputStream = new BufferingOutputStream(this);
+      }
+      return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      if (etag == null) {
+        return super.getWriter();
+      }
+      if (writer == null) {
+        writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+      }
+      return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      if (!isPending()) {
+        super.flushBuffer();
+      }
+    }
+
+    @Override
+    public void resetBuffer() {
+      if (outputStream != null && !outputStream.isDecided()) {
+        outputStream.buffer.reset();
+      }
+      super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+      super.reset();
+      etag = null;
+      contentLength = -1;
+      outputStream = null;
+      writer = null;
+    }
+
+    /** Decides the encoding of the response once its first bytes or its end are known. */
+    private OutputStream decide(int bufferedSize, boolean complete) throws IOException {
+      String contentType = getContentType();
+      boolean compress =
+          bufferedSize >= minSize
+              && contentType != null
+              && mimeTypes.contains(contentType.split(";")[0].trim().toLowerCase(Locale.ROOT));
+      HttpServletResponse response = (HttpServletResponse) getResponse();
+      if (response.getHeaders(HttpHeaders.VARY).stream()
+          .noneMatch(vary -> vary.toLowerCase(Locale.ROOT).contains("accept-encoding"))) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      }
+      if (compress) {
+        response.setHeader(HttpHeaders.ETAG, gzipETag(etag));
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        return new GZIPOutputStream(response.getOutputStream(), true);
+      }
+      if (complete) {
+        contentLength = bufferedSize;
+      }
+      if (contentLength >= 0) {
+        response.setContentLengthLong(contentLength);
+      }
+      response.setHeader(HttpHeaders.ETAG, etag);
+      return response.getOutputStream();
+    }
+
+    /** Writes the held back headers and body, and ends the gzip stream of the response. */
+    private void finish() throws IOException {
+      if (finished || etag == null) {
+        return;
+      }
+      finished = true;
+      if (writer != null) {
+        writer.flush();
+      }
+      if (outputStream != null) {
+        outputStream.finish();
+        return;
+      }
+      // No body, as in a 304: the tag in the form the client has
+      ((HttpServletResponse) getResponse())
+          .setHeader(
+              HttpHeaders.ETAG,
+              getStatus() == HttpServletResponse.SC_NOT_MODIFIED && request.sentGzipETag(etag)
+                  ? gzipETag(etag)
+                  : etag);
+    }
+  }
+
+  /** Buffers the body up to the minimum size, then writes it plain or gzipped. */
+  private final class BufferingOutputStream extends ServletOutputStream {
+
+    private final CompressingResponse response;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private OutputStream target;
+
+    private BufferingOutputStream(CompressingResponse response) {
+      this.response = response;
+    }
+
+    private boolean isDecided() {
+      return target != null;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      if (target != null) {
+        target.write(bytes, offset, length);
+        return;
+      }
+      buffer.write(bytes, offset, length);
+      if (buffer.size() >= minSize) {
+        target = response.decide(buffer.size(), false);
+        buffer.writeTo(target);
+        buffer.reset();
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (target != null) {
+        target.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      response.finish();
+    }
+
+    private void finish() throws IOException {
+      if (target == null) {
+        target = response.decide(buffer.size(), true);
+        buffer.writeTo(target);
+      }
+      if (target instanceof GZIPOutputStream gzip) {
+        gzip.finish();
+      }
+      target.flush();
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      throw new UnsupportedOperationException("The compressed responses are written blocking");
+    }
+  }
+
+  /** Finishes the response of an asynchronous request once it completes. */
+  private record FinishListener(CompressingResponse response) implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) throws IOException {
+      response.finish();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {}
+
+    @Override
+    public void onError(AsyncEvent event) {}
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -28,9 +28,14 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * <p>This configuration focuses on leveraging Hibernate’s native API, making it useful when
  * advanced Hibernate-specific features (such as caching strategies or batch processing) are
  * required that may not be fully supported by standard JPA.
+ *
+ * <p>It is only registered with {@code spring.jpa.persistence.mode: hibernate}. The {@link
+ * SessionFactory} is also the {@code EntityManagerFactory} of the application, so the services and
+ * repositories work the same on both stacks.
  */
 @Log4j2
 @Configuration
+@ConditionalOnPersistenceMode(ConfigurationConstants.PERSISTENCE_HIBERNATE)
 @AllArgsConstructor
 @EnableTransactionManagement
 @EnableJpaRepositories(
@@ -58,6 +63,7 @@ public class HibernateConfiguration {
     LocalSessionFactoryBean sessionFactory = new LocalSessionFactoryBean();
     sessionFactory.setDataSource(dataSource);
     sessionFactory.setPackagesToScan(ConfigurationConstants.ENTITIES_PACKAGE);
+    sessionFactory.setMappingResources(dbProperties.mappingResources());
     sessionFactory.setHibernateProperties(dbProperties.properties());
     return sessionFactory;
   }
@@ -0,0 +1,99 @@
+package org.barrikeit.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.cache.CacheManager;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <b>Hibernate Metrics Configuration Class</b>
+ *
+ * <p>This configuration class binds the persistence metrics to the shared {@link MeterRegistry}
+ * once every {@link EntityManagerFactory} has been created:
+ *
+ * <ul>
+ *   <li>The Hibernate statistics of each factory ({@code hibernate.*} meters, tagged with the bean
+ *       name as {@code entityManagerFactory}). They are only published when {@code
+ *       hibernate.generate_statistics} is enabled.
+ *   <li>Gauges derived from those statistics: the hit ratio of the second-level and query caches,
+ *       and the number of distinct queries slower than {@code hibernate.log_slow_query}
+ *       milliseconds.
+ *   <li>The size, hits, misses, puts and evictions of every second-level cache region ({@code
+ *       cache.*} meters, tagged with the region name as {@code cache}). Each region is bound only
+ *       once, as the factories share the same JCache {@link CacheManager}.
+ * </ul>
+ */
+@Log4j2
+@Configuration
+@AllArgsConstructor
+public class HibernateMetricsConfiguration implements SmartInitializingSingleton {
+
+  private static final String ENTITY_MANAGER_FACTORY_TAG = "entityManagerFactory";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, EntityManagerFactory> entityManagerFactories;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    Set<String> boundRegions = new HashSet<>();
+    entityManagerFactories.forEach(
+        (name, entityManagerFactory) -> {
+          log.info("***Binding Hibernate metrics of {}", name);
+          SessionFactoryImplementor sessionFactory =
+              entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+          HibernateMetrics.monitor(meterRegistry, sessionFactory, name);
+          if (sessionFactory.getStatistics().isStatisticsEnabled()) {
+            bindStatisticsGauges(sessionFactory.getStatistics(), name);
+          }
+
+          RegionFactory regionFactory = sessionFactory.getCache().getRegionFactory();
+          if (regionFactory instanceof JCacheRegionFactory jCacheRegionFactory) {
+            CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+            for (String region : cacheManager.getCacheNames()) {
+              if (boundRegions.add(region)) {
+                JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region));
+              }
+            }
+          }
+        });
+  }
+
+  private void bindStatisticsGauges(Statistics statistics, String name) {
+    Gauge.builder(
+            "hibernate.second.level.cache.hit.ratio",
+            statistics,
+            s -> ratio(s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()))
+        .description("Hits of the second-level cache over its requests")
+        .tag(ENTITY_MANAGER_FACTORY_TAG, name)
+        .register(meterRegistry);
+    Gauge.builder(
+            "hibernate.query.cache.hit.ratio",
+            statistics,
+            s -> ratio(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()))
+        .description("Hits of the query cache over its requests")
+        .tag(ENTITY_MANAGER_FACTORY_TAG, name)
+        .register(meterRegistry);
+    Gauge.builder("hibernate.query.slow", statistics, s -> s.getSlowQueries().size())
+        .description("Distinct queries slower than hibernate.log_slow_query")
+        .tag(ENTITY_MANAGER_FACTORY_TAG, name)
+        .register(meterRegistry);
+  }
+
+  private static double ratio(long hits, long misses) {
+    long requests = hits + misses;
+    return requests == 0 ? 0 : (double) hits / requests;
+  }
+}
@@ -0,0 +1,216 @@
+package org.barrikeit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * <b>HTTP Metrics Filter</b>
+ *
+ * <p>Records the latency of every request in the {@code http.server.requests} timer, tagged with
+ * the HTTP method, the matched route (the pattern of the controller mapping, such as {@code
+ * /users/{id}}) and the status. The timer publishes a percentile histogram, its count is the
+ * throughput of each route and the {@code http.server.requests.errors} counter counts the requests
+ * that failed with an exception or a 5xx status.
+ *
+ * <p>The meters of each route are resolved once and kept in arrays indexed by method and status, so
+ * recording a request is a few lock-free lookups and the lock-free update of the timer, without
+ * allocations.
+ */
+public class HttpMetricsFilter implements Filter {
+
+  public static final String REQUESTS = "http.server.requests";
+  public static final String ERRORS = "http.server.requests.errors";
+
+  private static final String[] METHODS = {
+    "GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE", "OTHER"
+  };
+  private static final int MAX_STATUS = 600;
+  private static final String NOT_FOUND = "NOT_FOUND";
+  private static final String REDIRECTION = "REDIRECTION";
+  private static final String UNKNOWN = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentHashMap<String, RouteMeters> routes = new ConcurrentHashMap<>();
+
+  public HttpMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    if (!(request instanceof HttpServletRequest httpRequest)
+        || !(response instanceof HttpServletResponse httpResponse)) {
+      chain.doFilter(request, response);
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      chain.doFilter(request, response);
+    } catch (IOException | ServletException | RuntimeException e) {
+      record(httpRequest, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start, true);
+      throw e;
+    }
+    if (httpRequest.isAsyncStarted()) {
+      httpRequest.getAsyncContext().addListener(new AsyncMetricsListener(httpRequest, start));
+    } else {
+      record(httpRequest, httpResponse.getStatus(), start, false);
+    }
+  }
+
+  private void record(HttpServletRequest request, int status, long start, boolean failed) {
+    long duration = System.nanoTime() - start;
+    String route = route(request, status);
+    RouteMeters meters = routes.get(route);
+    if (meters == null) {
+      meters = routes.computeIfAbsent(route, RouteMeters::new);
+    }
+    int method = methodIndex(request.getMethod());
+    meters.timer(method, status).record(duration, TimeUnit.NANOSECONDS);
+    if (failed || status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+      meters.errors(method).increment();
+    }
+  }
+
+  /**
+   * The route is the pattern of the matched mapping. Requests without mapping are grouped, so the
+   * raw paths never become tags.
+   */
+  private static String route(HttpServletRequest request, int status) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    if (pattern instanceof String route) {
+      return route;
+    }
+    if (status == HttpServletResponse.SC_NOT_FOUND) {
+      return NOT_FOUND;
+    }
+    return status >= 300 && status < 400 ? REDIRECTION : UNKNOWN;
+  }
+
+  private static int methodIndex(String method) {
+    for (int i = 0; i < METHODS.length - 1; i++) {
+      if (METHODS[i].equals(method)) {
+        return i;
+      }
+    }
+    return METHODS.length - 1;
+  }
+
+  /** Meters of a route, created the first time each method and status is seen. */
+  private final class RouteMeters {
+    private final String route;
+    private final AtomicReferenceArray<AtomicReferenceArray<Timer>> timers =
+        new AtomicReferenceArray<>(METHODS.length);
+    private final AtomicReferenceArray<Counter> errors = new AtomicReferenceArray<>(METHODS.length);
+
+    private RouteMeters(String route) {
+      this.route = route;
+    }
+
+    private Timer timer(int method, int status) {
+      AtomicReferenceArray<Timer> byStatus = timers.get(method);
+      if (byStatus == null) {
+        timers.compareAndSet(method, null, new AtomicReferenceArray<>(MAX_STATUS));
+        byStatus = timers.get(method);
+      }
+      int index = status > 0 && status < MAX_STATUS ? status : 0;
+      Timer timer = byStatus.get(index);
+      if (timer == null) {
+        timer =
+            Timer.builder(REQUESTS)
+                .description("Latency of the HTTP requests by route")
+                .tag("method", METHODS[method])
+                .tag("uri", route)
+                .tag("status", String.valueOf(index))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+        byStatus.compareAndSet(index, null, timer);
+      }
+      return timer;
+    }
+
+    private Counter errors(int method) {
+      Counter counter = errors.get(method);
+      if (counter == null) {
+        counter =
+            Counter.builder(ERRORS)
+                .description("HTTP requests failed with an exception or a 5xx status")
+                .tag("method", METHODS[method])
+                .tag("uri", route)
+                .register(meterRegistry);
+        errors.compareAndSet(method, null, counter);
+      }
+      return counter;
+    }
+  }
+
+  /**
+   * Records the asynchronous requests once they complete, instead of when the filter returns. The
+   * container always completes a request after its timeout or error, so those only mark it failed
+   * and it is recorded once, on completion.
+   */
+  private final class AsyncMetricsListener implements AsyncListener {
+    private final HttpServletRequest request;
+    private final long start;
+    private int failedStatus;
+    private volatile boolean failed;
+
+    private AsyncMetricsListener(HttpServletRequest request, long start) {
+      this.request = request;
+      this.start = start;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      int status = failedStatus;
+      if (!failed) {
+        ServletResponse response = event.getSuppliedResponse();
+        status =
+            response instanceof HttpServletResponse httpResponse
+                ? httpResponse.getStatus()
+                : HttpServletResponse.SC_OK;
+      }
+      record(request, status, start, failed);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      fail(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      fail(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    }
+
+    private void fail(int status) {
+      if (!failed) {
+        failedStatus = status;
+        failed = true;
+      }
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -1,12 +1,15 @@
 package org.barrikeit.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.barrikeit.application.ApplicationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -22,16 +25,41 @@ public class JdbcConfiguration {
     return new PropertySourcesPlaceholderConfigurer();
   }
 
-  @Bean
-  public DriverManagerDataSource dataSource() {
-    log.info("***Creating a datasource for {}", dbProperties.getDriverClassName());
-    DriverManagerDataSource dataSource = new DriverManagerDataSource();
-    dataSource.setDriverClassName(dbProperties.getDriverClassName());
-    dataSource.setUrl(dbProperties.getUrl());
-    dataSource.setUsername(dbProperties.getUsername());
-    dataSource.setPassword(dbProperties.getPassword());
-    dataSource.setSchema(dbProperties.getDefaultSchema());
-    return dataSource;
+  /**
+   * Creates the pooled {@link HikariDataSource} configured with the {@code
+   * spring.datasource.hikari.*} properties.
+   *
+   * <p>The pool reports its state (active, idle and pending connections) and the connection
+   * acquire, usage and creation timings to the given {@link MeterRegistry}.
+   *
+   * @param meterRegistry the registry where the pool metrics are published.
+   * @return a configured {@link HikariDataSource} instance.
+   */
+  @Bean(destroyMethod = "close")
+  public HikariDataSource dataSource(MeterRegistry meterRegistry) {
+    log.info(
+        "***Creating a pooled datasource [{}] for {}",
+        dbProperties.getPoolName(),
+        dbProperties.getDriverClassName());
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(dbProperties.getPoolName());
+    config.setDriverClassName(dbProperties.getDriverClassName());
+    config.setJdbcUrl(dbProperties.getUrl());
+    config.setUsername(dbProperties.getUsername());
+    config.setPassword(dbProperties.getPassword());
+    config.setSchema(dbProperties.getDefaultSchema());
+    config.setMinimumIdle(dbProperties.getMinimumIdle());
+    config.setMaximumPoolSize(dbProperties.getMaximumPoolSize());
+    config.setIdleTimeout(dbProperties.getIdleTimeout());
+    config.setMaxLifetime(dbProperties.getMaxLifetime());
+    config.setConnectionTimeout(dbProperties.getConnectionTimeout());
+    config.addDataSourceProperty("includeSynonyms", dbProperties.getIncludeSynonyms());
+    if (!dbProperties.getReWriteBatchedInserts().isBlank()) {
+      config.addDataSourceProperty(
+          "reWriteBatchedInserts", dbProperties.getReWriteBatchedInserts());
+    }
+    config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return new HikariDataSource(config);
   }
 
   @Bean
@@ -31,9 +31,12 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  *
  * <p>This configuration is vendor-independent, meaning it adheres to the JPA specification, which
  * allows for flexibility in switching to other JPA providers if needed.
+ *
+ * <p>It is only registered with {@code spring.jpa.persistence.mode: jpa}, the default.
  */
 @Log4j2
 @Configuration
+@ConditionalOnPersistenceMode(ConfigurationConstants.PERSISTENCE_JPA)
 @AllArgsConstructor
 @EnableTransactionManagement
 @EnableJpaRepositories(
@@ -63,6 +66,7 @@ public class JpaConfiguration {
     entityManagerFactoryBean.setDataSource(dataSource);
     entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
     entityManagerFactoryBean.setPackagesToScan(ConfigurationConstants.ENTITIES_PACKAGE);
+    entityManagerFactoryBean.setMappingResources(dbProperties.mappingResources());
     entityManagerFactoryBean.setJpaProperties(dbProperties.properties());
     return entityManagerFactoryBean;
   }
@@ -0,0 +1,53 @@
+package org.barrikeit.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.util.constants.ConfigurationConstants;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * <b>Lazy Initialization Post Processor</b>
+ *
+ * <p>Marks the controllers and services of the web context as lazy, so they are created on their
+ * first use instead of at startup. The handler mappings only need their types to register the
+ * endpoints, and the controllers pull the services they use when they are created.
+ *
+ * <p>The configurations, the persistence stack, the repositories and the schedulers are kept eager,
+ * as they validate the configuration and the schema or run in background.
+ */
+@Log4j2
+public class LazyInitializationPostProcessor implements BeanFactoryPostProcessor {
+
+  private static final String[] LAZY_PACKAGES = {
+    ConfigurationConstants.REST_PACKAGE + ".", ConfigurationConstants.SERVICES_PACKAGE + "."
+  };
+
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+    int lazy = 0;
+    for (String name : beanFactory.getBeanDefinitionNames()) {
+      BeanDefinition definition = beanFactory.getBeanDefinition(name);
+      if (isLazyCandidate(definition)) {
+        definition.setLazyInit(true);
+        lazy++;
+      }
+    }
+    log.info("***Creating {} controllers and services on their first use", lazy);
+  }
+
+  private static boolean isLazyCandidate(BeanDefinition definition) {
+    String className = definition.getBeanClassName();
+    if (className == null
+        || definition.isAbstract()
+        || definition.getRole() != BeanDefinition.ROLE_APPLICATION) {
+      return false;
+    }
+    for (String lazyPackage : LAZY_PACKAGES) {
+      if (className.startsWith(lazyPackage)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
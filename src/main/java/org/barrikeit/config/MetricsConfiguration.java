@@ -0,0 +1,92 @@
+package org.barrikeit.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.core.instrument.binder.system.UptimeMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <b>Metrics Configuration Class</b>
+ *
+ * <p>This configuration class sets up the Micrometer {@link PrometheusMeterRegistry} shared by the
+ * whole application. Every meter is tagged with the application name and can be scraped in the
+ * Prometheus text format through the {@code /metrics} endpoint.
+ *
+ * <p>The JVM heap, garbage collection, threads and class loading, and the process CPU and uptime
+ * are bound to the registry as soon as it is created.
+ *
+ * <p>Timers whose name starts with one of {@link #HISTOGRAM_PREFIXES} publish a percentile
+ * histogram, so latencies can be aggregated across instances instead of relying on client side
+ * percentiles.
+ */
+@Log4j2
+@Configuration
+public class MetricsConfiguration {
+
+  private static final String[] HISTOGRAM_PREFIXES = {"hikaricp.connections."};
+
+  /**
+   * Creates the {@link PrometheusMeterRegistry} used to register the application metrics.
+   *
+   * @param applicationProperties the application properties used to tag the metrics.
+   * @return a configured {@link PrometheusMeterRegistry} instance.
+   */
+  @Bean(destroyMethod = "close")
+  public PrometheusMeterRegistry meterRegistry(
+      ApplicationProperties.GenericProperties applicationProperties) {
+    log.info("***Creating Prometheus meter registry");
+    PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    registry.config().commonTags("application", applicationProperties.getName());
+    registry.config().meterFilter(histogramFilter());
+    new JvmMemoryMetrics().bindTo(registry);
+    new JvmThreadMetrics().bindTo(registry);
+    new ClassLoaderMetrics().bindTo(registry);
+    new ProcessorMetrics().bindTo(registry);
+    new UptimeMetrics().bindTo(registry);
+    return registry;
+  }
+
+  /**
+   * Binds the garbage collection pauses, allocation and promotion rates to the registry. It is a
+   * bean of its own because it listens to the collector notifications until it is closed.
+   *
+   * @param meterRegistry the registry where the metrics are published.
+   * @return the bound {@link JvmGcMetrics}.
+   */
+  @Bean(destroyMethod = "close")
+  public JvmGcMetrics jvmGcMetrics(MeterRegistry meterRegistry) {
+    JvmGcMetrics jvmGcMetrics = new JvmGcMetrics();
+    jvmGcMetrics.bindTo(meterRegistry);
+    return jvmGcMetrics;
+  }
+
+  private static MeterFilter histogramFilter() {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(
+          Meter.Id id, DistributionStatisticConfig config) {
+        for (String prefix : HISTOGRAM_PREFIXES) {
+          if (id.getName().startsWith(prefix)) {
+            return DistributionStatisticConfig.builder()
+                .percentilesHistogram(true)
+                .build()
+                .merge(config);
+          }
+        }
+        return config;
+      }
+    };
+  }
+}
@@ -1,5 +1,7 @@
 package org.barrikeit.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.barrikeit.util.constants.ConfigurationConstants;
@@ -7,10 +9,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.HandlerAdapter;
 import org.springframework.web.servlet.HandlerMapping;
-import org.springframework.web.servlet.config.annotation.DefaultServletHandlerConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
@@ -31,12 +34,18 @@ public class MvcConfiguration implements WebMvcConfigurer {
 
   @Override
   public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new StringHttpMessageConverter(StandardCharsets.UTF_8));
     converters.add(jsonConverter());
   }
 
+  @Bean
+  public ObjectMapper objectMapper() {
+    return Jackson2ObjectMapperBuilder.json().build();
+  }
+
   @Bean
   public HttpMessageConverter<Object> jsonConverter() {
-    return new MappingJackson2HttpMessageConverter();
+    return new MappingJackson2HttpMessageConverter(objectMapper());
   }
 
   @Bean
@@ -48,9 +57,4 @@ public class MvcConfiguration implements WebMvcConfigurer {
   public HandlerAdapter handlerAdapter() {
     return new RequestMappingHandlerAdapter();
   }
-
-  @Override
-  public void configureDefaultServletHandling(DefaultServletHandlerConfigurer configurer) {
-    configurer.enable("generic");
-  }
 }
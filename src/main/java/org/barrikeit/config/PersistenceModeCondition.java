@@ -0,0 +1,41 @@
+package org.barrikeit.config;
+
+import java.util.Map;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.util.constants.ConfigurationConstants;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * <b>Persistence Mode Condition</b>
+ *
+ * <p>Matches the {@link ConditionalOnPersistenceMode} whose mode is the one of {@link
+ * ApplicationProperties.DatabaseProperties#getPersistenceMode()}. The properties are resolved by
+ * the parent context, already refreshed when the persistence configurations are parsed; without
+ * them the default {@code jpa} mode is assumed.
+ */
+public class PersistenceModeCondition implements Condition {
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    Map<String, Object> attributes =
+        metadata.getAnnotationAttributes(ConditionalOnPersistenceMode.class.getName());
+    if (attributes == null) {
+      return true;
+    }
+    String mode = (String) attributes.get("value");
+    ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+    ApplicationProperties.DatabaseProperties databaseProperties =
+        beanFactory != null
+            ? beanFactory
+                .getBeanProvider(ApplicationProperties.DatabaseProperties.class)
+                .getIfAvailable()
+            : null;
+    if (databaseProperties == null) {
+      return ConfigurationConstants.PERSISTENCE_JPA.equalsIgnoreCase(mode);
+    }
+    return databaseProperties.isPersistenceMode(mode);
+  }
+}
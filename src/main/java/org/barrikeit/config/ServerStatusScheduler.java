@@ -5,6 +5,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
@@ -19,6 +20,22 @@ public class ServerStatusScheduler {
     return scheduler;
   }
 
+  /**
+   * Executor of the health checks, kept apart from the scheduler so a blocked check never delays
+   * the scheduled tasks.
+   *
+   * @return the executor of the health checks.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor healthCheckExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(16);
+    executor.setThreadFactory(new CustomThreadFactory("Health Check"));
+    return executor;
+  }
+
   private static class CustomThreadFactory implements ThreadFactory {
     private final String namePrefix;
     private final AtomicInteger counter = new AtomicInteger(0);
@@ -1,14 +1,46 @@
 package org.barrikeit.controller;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
 import java.util.List;
-import lombok.AllArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.barrikeit.model.domain.GenericEntity;
 import org.barrikeit.service.GenericService;
+import org.barrikeit.service.dto.CursorPageDto;
 import org.barrikeit.service.dto.GenericDto;
+import org.barrikeit.service.dto.ImportResultDto;
+import org.barrikeit.service.dto.LookupDto;
+import org.barrikeit.service.dto.PageDto;
+import org.barrikeit.service.dto.VersionedDto;
+import org.barrikeit.service.export.XlsxExporter;
+import org.barrikeit.service.importer.DtoImporter;
+import org.barrikeit.util.constants.EntityConstants;
+import org.barrikeit.util.constants.ExceptionConstants;
+import org.barrikeit.util.constants.UtilConstants;
+import org.barrikeit.util.exceptions.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,7 +48,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * <b>Generic Controller Class</b>
@@ -26,37 +62,270 @@ import org.springframework.web.bind.annotation.RequestMapping;
  * designed to work with entities that extend {@link GenericEntity} and their corresponding DTOs
  * that extend {@link GenericDto}.
  *
+ * <p>The endpoints under {@code /async} are the asynchronous variants of the others: they release
+ * the request thread while the operation runs on the database executor (see {@link
+ * GenericService#findAsync(Serializable)}) and answer with 503 when the executor is saturated or
+ * the result is not ready within {@code application.async.timeout}. An operation still queued when
+ * the request times out is never run.
+ *
+ * <p>For a {@link org.barrikeit.model.domain.VersionedEntity} the reads answer with a strong {@code
+ * ETag} and a request whose {@code If-None-Match} matches it gets a 304 without a body. The {@code
+ * ETag} of an entity is the version carried by its DTO, and the one of a list digests the
+ * identifiers and versions of its elements, so it is checked without mapping any DTO. An update
+ * with an {@code If-Match} header is refused with 412 if the entity has another version. The
+ * connector does not compress the responses with a strong {@code ETag}, so the {@link
+ * org.barrikeit.config.ETagCompressionFilter} gzips them under a tag of their own.
+ *
  * @param <E> the entity type that extends {@link GenericEntity}.
  * @param <S> the type of the entity's identifier, which must be {@link Serializable}.
  * @param <D> the DTO type that extends {@link GenericDto}.
  */
 @Log4j2
-@AllArgsConstructor
+@RequiredArgsConstructor
 @RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
 public abstract class GenericController<
     E extends GenericEntity<S>, S extends Serializable, D extends GenericDto> {
 
+  private static final Set<String> SEARCH_PARAMS = Set.of("page", "size", "sort");
+
   private final GenericService<E, S, D> service;
+  private ObjectMapper objectMapper;
+  private XlsxExporter xlsxExporter;
+  private DtoImporter dtoImporter;
+
+  @Autowired
+  public void setObjectMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Autowired
+  public void setXlsxExporter(XlsxExporter xlsxExporter) {
+    this.xlsxExporter = xlsxExporter;
+  }
+
+  @Autowired
+  public void setDtoImporter(DtoImporter dtoImporter) {
+    this.dtoImporter = dtoImporter;
+  }
 
   /**
    * Retrieves a list of all DTOs.
    *
-   * @return a response entity containing a list of DTOs.
+   * @param request the request, whose {@code If-None-Match} header is checked.
+   * @return a response entity containing a list of DTOs, or {@code null} if not modified.
    */
   @GetMapping
-  public ResponseEntity<List<D>> findAll() {
-    return ResponseEntity.ok(service.findAll());
+  public ResponseEntity<List<D>> findAll(WebRequest request) {
+    if (!service.isVersioned()) {
+      return ResponseEntity.ok(service.findAll());
+    }
+    String etag = eTag(service.findVersionDigest(null, 0));
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok().eTag(etag).body(service.findAll());
+  }
+
+  /**
+   * Retrieves the DTOs of many entities in a single request, such as {@code ?ids=1,2,3}. A request
+   * that also has a {@code limit} is a page of {@link #findAfter}, which ignores the identifiers.
+   *
+   * @param ids the identifiers of the entities to retrieve.
+   * @return a response entity containing the DTOs found, in the order of the identifiers, and the
+   *     identifiers not found.
+   * @see GenericService#findAll(java.util.Collection)
+   */
+  @GetMapping(params = {"ids", "!limit"})
+  public ResponseEntity<LookupDto<S, D>> findAllById(@RequestParam("ids") List<S> ids) {
+    return ResponseEntity.ok(service.findAll(ids));
+  }
+
+  /**
+   * Retrieves the DTOs of many entities in a single request, with the identifiers as a JSON array
+   * in the request body, for lists too long for a query string.
+   *
+   * @param ids the identifiers of the entities to retrieve.
+   * @return a response entity containing the DTOs found, in the order of the identifiers, and the
+   *     identifiers not found.
+   */
+  @PostMapping("/lookup")
+  public ResponseEntity<LookupDto<S, D>> lookup(@RequestBody List<S> ids) {
+    return ResponseEntity.ok(service.findAll(ids));
+  }
+
+  /**
+   * Retrieves a page of DTOs using keyset (cursor) pagination.
+   *
+   * <p>The first page is requested with {@code ?limit=n}; the following ones with {@code
+   * ?after=<nextCursor>&limit=n}, where {@code nextCursor} is taken from the previous page.
+   *
+   * @param after the opaque cursor returned by the previous page, if any.
+   * @param limit the maximum number of elements of the page.
+   * @param request the request, whose {@code If-None-Match} header is checked.
+   * @return a response entity containing the requested page, or {@code null} if not modified.
+   */
+  @GetMapping(params = "limit")
+  public ResponseEntity<CursorPageDto<D>> findAfter(
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "limit", defaultValue = "" + UtilConstants.DEFAULT_PAGE_SIZE) int limit,
+      WebRequest request) {
+    S lastId = service.decodeCursor(after);
+    if (!service.isVersioned()) {
+      return ResponseEntity.ok(service.findAfter(lastId, limit));
+    }
+    String etag = eTag(service.findVersionDigest(lastId, limit));
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok().eTag(etag).body(service.findAfter(lastId, limit));
+  }
+
+  /**
+   * Retrieves a page of the DTOs that match all the filters of the query string.
+   *
+   * <p>Every parameter other than {@code page}, {@code size} and {@code sort} filters a field of
+   * the entity, such as {@code ?username=like:john*&id=gt:100&sort=username,desc}. A field can be
+   * repeated to apply several filters to it.
+   *
+   * <p>The sort entries, as {@code field} or {@code field,direction}, are read from the raw
+   * parameters so that the comma of every entry is not taken as a list separator.
+   *
+   * @param page the number of the page, starting at 0.
+   * @param size the maximum number of elements of the page.
+   * @param params all the query parameters, the sort and the filters among them.
+   * @return a response entity containing the requested page.
+   */
+  @GetMapping("/search")
+  public ResponseEntity<PageDto<D>> search(
+      @RequestParam(value = "page", defaultValue = "0") int page,
+      @RequestParam(value = "size", defaultValue = "" + UtilConstants.DEFAULT_PAGE_SIZE) int size,
+      @RequestParam MultiValueMap<String, String> params) {
+    MultiValueMap<String, String> filters = new LinkedMultiValueMap<>(params);
+    filters.keySet().removeAll(SEARCH_PARAMS);
+    return ResponseEntity.ok(service.search(filters, page, size, params.get("sort")));
+  }
+
+  /**
+   * Streams all the DTOs as a JSON array.
+   *
+   * <p>Rows are read through a database cursor and written one by one with a {@link JsonGenerator}
+   * straight to the response, so the memory used does not depend on the size of the table and the
+   * first bytes are sent before the last row is read.
+   *
+   * @param response the response the DTOs are written to.
+   * @throws IOException if the response cannot be written.
+   */
+  @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+  public void stream(HttpServletResponse response) throws IOException {
+    writeStream(response, MediaType.APPLICATION_JSON, false);
+  }
+
+  /**
+   * Streams all the DTOs as newline delimited JSON, one DTO per line.
+   *
+   * @param response the response the DTOs are written to.
+   * @throws IOException if the response cannot be written.
+   * @see #stream(HttpServletResponse)
+   */
+  @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void streamNdjson(HttpServletResponse response) throws IOException {
+    writeStream(response, MediaType.APPLICATION_NDJSON, true);
+  }
+
+  private void writeStream(HttpServletResponse response, MediaType mediaType, boolean ndjson)
+      throws IOException {
+    response.setContentType(mediaType.toString());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    try (JsonGenerator generator =
+        objectMapper.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+      if (ndjson) {
+        generator.setRootValueSeparator(null);
+      } else {
+        generator.writeStartArray();
+      }
+      AtomicLong count = new AtomicLong();
+      service.streamAll(
+          dto -> {
+            try {
+              generator.writeObject(dto);
+              if (ndjson) {
+                generator.writeRaw('\n');
+              }
+              if (count.incrementAndGet() % EntityConstants.STREAM_FETCH_SIZE == 0) {
+                generator.flush();
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+      if (!ndjson) {
+        generator.writeEndArray();
+      }
+      log.debug("Streamed {} elements as {}", count.get(), mediaType);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Downloads all the DTOs as an XLSX workbook, one row per DTO and one column per field.
+   *
+   * <p>Rows are read through a database cursor and streamed into the workbook, which keeps only a
+   * bounded window of rows in memory (see {@link XlsxExporter}), so large tables can be exported
+   * without exhausting the heap.
+   *
+   * @param response the response the workbook is written to.
+   * @throws IOException if the response cannot be written.
+   */
+  @GetMapping(value = "/export.xlsx", produces = XlsxExporter.CONTENT_TYPE)
+  public void exportXlsx(HttpServletResponse response) throws IOException {
+    String name = service.getEntityClass().getSimpleName();
+    response.setContentType(XlsxExporter.CONTENT_TYPE);
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment().filename(XlsxExporter.fileName(name)).build().toString());
+    xlsxExporter.export(
+        service.getDtoClass(), name, service::streamAll, response.getOutputStream());
+  }
+
+  /**
+   * Imports the rows of an XLSX or CSV file sent as the request body, with the content type of the
+   * file. The first row holds the names of the DTO fields.
+   *
+   * <p>The file is parsed, converted and saved in a pipeline with bounded queues and chunked
+   * transactions (see {@link DtoImporter}); the rows that fail are reported without stopping the
+   * import.
+   *
+   * @param request the request whose body is the file.
+   * @return a response entity containing the result of the import and the rejected rows.
+   * @throws IOException if the request cannot be read.
+   */
+  @PostMapping(
+      value = "/import",
+      consumes = {XlsxExporter.CONTENT_TYPE, DtoImporter.CSV_CONTENT_TYPE})
+  public ResponseEntity<ImportResultDto> importFile(HttpServletRequest request) throws IOException {
+    return ResponseEntity.ok(
+        dtoImporter.importFile(service, request.getContentType(), request.getInputStream()));
   }
 
   /**
    * Retrieves a specific DTO by its identifier.
    *
    * @param id the identifier of the entity to retrieve.
-   * @return a response entity containing the requested DTO.
+   * @param request the request, whose {@code If-None-Match} header is checked.
+   * @return a response entity containing the requested DTO, or {@code null} if not modified.
    */
   @GetMapping("/{id}")
-  public ResponseEntity<D> findById(@PathVariable("id") S id) {
-    return ResponseEntity.ok(service.find(id));
+  public ResponseEntity<D> findById(@PathVariable("id") S id, WebRequest request) {
+    D dto = service.find(id);
+    String etag = versionETag(dto);
+    if (etag == null) {
+      return ResponseEntity.ok(dto);
+    }
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok().eTag(etag).body(dto);
   }
 
   /**
@@ -70,16 +339,106 @@ public abstract class GenericController<
     return ResponseEntity.ok(service.save(dto));
   }
 
+  /**
+   * Saves all the entities represented by the provided DTOs, using JDBC batching.
+   *
+   * @param dtos the DTOs representing the entities to save.
+   * @return a response entity containing the saved DTOs.
+   */
+  @PostMapping("/batch")
+  public ResponseEntity<List<D>> saveAll(@Validated @RequestBody List<D> dtos) {
+    return ResponseEntity.ok(service.saveAll(dtos));
+  }
+
+  /**
+   * Inserts all the entities represented by the provided DTOs as new rows, without a persistence
+   * context in the {@code hibernate} persistence mode (see {@link GenericService#insertAll}).
+   *
+   * @param dtos the DTOs representing the entities to insert.
+   * @return a response entity containing the inserted DTOs.
+   */
+  @PostMapping("/batch/insert")
+  public ResponseEntity<List<D>> insertAll(@Validated @RequestBody List<D> dtos) {
+    return ResponseEntity.ok(service.insertAll(dtos));
+  }
+
+  /**
+   * Updates all the entities identified by the keys of the map with their DTO, using JDBC batching.
+   *
+   * @param dtos the DTOs containing the updated information, by the identifier of their entity.
+   * @return a response entity containing the updated DTOs.
+   */
+  @PutMapping("/batch")
+  public ResponseEntity<List<D>> updateAll(@RequestBody Map<S, D> dtos) {
+    return ResponseEntity.ok(service.updateAll(dtos));
+  }
+
   /**
    * Updates an existing entity identified by its identifier with the provided DTO.
    *
    * @param id the identifier of the entity to update.
    * @param dto the DTO containing the updated entity information.
+   * @param ifMatch the {@code ETags} of the versions the client has seen, if any.
    * @return a response entity containing the updated DTO.
    */
   @PutMapping("/{id}/update")
-  public ResponseEntity<D> update(@PathVariable("id") S id, @RequestBody D dto) {
-    return ResponseEntity.ok(service.update(id, dto));
+  public ResponseEntity<D> update(
+      @PathVariable("id") S id,
+      @RequestBody D dto,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    D updated = service.update(id, dto, expectedVersions(ifMatch));
+    String etag = versionETag(updated);
+    if (etag == null) {
+      return ResponseEntity.ok(updated);
+    }
+    return ResponseEntity.ok().eTag(etag).body(updated);
+  }
+
+  /**
+   * The {@code ETag} of the version carried by a DTO, so it always matches the body it is sent
+   * with, even when the DTO comes from a cache; {@code null} if the DTO has no version.
+   */
+  private static String versionETag(Object dto) {
+    if (dto instanceof VersionedDto versioned && versioned.getVersion() != null) {
+      return eTag(String.valueOf(versioned.getVersion()));
+    }
+    return null;
+  }
+
+  /**
+   * A strong {@code ETag}, compared byte for byte by {@code If-Match}. The connector does not
+   * compress these responses, so the {@code ETagCompressionFilter} gzips them under a tag of their
+   * own.
+   */
+  private static String eTag(String tag) {
+    return ETag.quoteETagIfNecessary(tag);
+  }
+
+  /**
+   * The versions of the {@code ETags} of an {@code If-Match} header, or {@code null} if there is no
+   * header or it is a wildcard, so no version is checked. A header without any version yields an
+   * empty set, which no entity matches. {@code If-Match} uses the strong comparison, so the weak
+   * {@code ETags} are ignored and never match.
+   */
+  private Set<Long> expectedVersions(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || !service.isVersioned()) {
+      return null;
+    }
+    Set<Long> versions = new HashSet<>();
+    for (ETag etag : ETag.parse(ifMatch)) {
+      if (etag.isWildcard()) {
+        return null;
+      }
+      if (etag.weak()) {
+        continue;
+      }
+      try {
+        versions.add(Long.parseLong(etag.tag()));
+      } catch (NumberFormatException e) {
+        log.debug("***Ignoring the If-Match ETag {}", etag);
+      }
+    }
+    return versions;
   }
 
   /**
@@ -93,4 +452,143 @@ public abstract class GenericController<
     service.delete(id);
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * Asynchronous variant of {@link #findAll(WebRequest)}.
+   *
+   * @return the deferred response entity containing a list of DTOs.
+   */
+  @GetMapping("/async")
+  public DeferredResult<ResponseEntity<List<D>>> findAllAsync() {
+    return deferred(service.findAllAsync(), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #findAfter(String, int, WebRequest)}.
+   *
+   * @param after the opaque cursor returned by the previous page, if any.
+   * @param limit the maximum number of elements of the page.
+   * @return the deferred response entity containing the requested page.
+   */
+  @GetMapping(value = "/async", params = "limit")
+  public DeferredResult<ResponseEntity<CursorPageDto<D>>> findAfterAsync(
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "limit", defaultValue = "" + UtilConstants.DEFAULT_PAGE_SIZE)
+          int limit) {
+    return deferred(service.findAfterAsync(service.decodeCursor(after), limit), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #search(int, int, MultiValueMap)}.
+   *
+   * @param page the number of the page, starting at 0.
+   * @param size the maximum number of elements of the page.
+   * @param params all the query parameters, the sort and the filters among them.
+   * @return the deferred response entity containing the requested page.
+   */
+  @GetMapping("/async/search")
+  public DeferredResult<ResponseEntity<PageDto<D>>> searchAsync(
+      @RequestParam(value = "page", defaultValue = "0") int page,
+      @RequestParam(value = "size", defaultValue = "" + UtilConstants.DEFAULT_PAGE_SIZE) int size,
+      @RequestParam MultiValueMap<String, String> params) {
+    MultiValueMap<String, String> filters = new LinkedMultiValueMap<>(params);
+    filters.keySet().removeAll(SEARCH_PARAMS);
+    return deferred(
+        service.searchAsync(filters, page, size, params.get("sort")), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #findById(Serializable, WebRequest)}.
+   *
+   * @param id the identifier of the entity to retrieve.
+   * @return the deferred response entity containing the requested DTO.
+   */
+  @GetMapping("/async/{id}")
+  public DeferredResult<ResponseEntity<D>> findByIdAsync(@PathVariable("id") S id) {
+    return deferred(service.findAsync(id), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #save(GenericDto)}.
+   *
+   * @param dto the DTO representing the entity to save.
+   * @return the deferred response entity containing the saved DTO.
+   */
+  @PostMapping("/async")
+  public DeferredResult<ResponseEntity<D>> saveAsync(@Validated @RequestBody D dto) {
+    return deferred(service.saveAsync(dto), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #saveAll(List)}.
+   *
+   * @param dtos the DTOs representing the entities to save.
+   * @return the deferred response entity containing the saved DTOs.
+   */
+  @PostMapping("/async/batch")
+  public DeferredResult<ResponseEntity<List<D>>> saveAllAsync(
+      @Validated @RequestBody List<D> dtos) {
+    return deferred(service.saveAllAsync(dtos), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #updateAll(Map)}.
+   *
+   * @param dtos the DTOs containing the updated information, by the identifier of their entity.
+   * @return the deferred response entity containing the updated DTOs.
+   */
+  @PutMapping("/async/batch")
+  public DeferredResult<ResponseEntity<List<D>>> updateAllAsync(@RequestBody Map<S, D> dtos) {
+    return deferred(service.updateAllAsync(dtos), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #update(Serializable, GenericDto, String)}.
+   *
+   * @param id the identifier of the entity to update.
+   * @param dto the DTO containing the updated entity information.
+   * @return the deferred response entity containing the updated DTO.
+   */
+  @PutMapping("/async/{id}/update")
+  public DeferredResult<ResponseEntity<D>> updateAsync(
+      @PathVariable("id") S id, @RequestBody D dto) {
+    return deferred(service.updateAsync(id, dto), ResponseEntity::ok);
+  }
+
+  /**
+   * Asynchronous variant of {@link #delete(Serializable)}.
+   *
+   * @param id the identifier of the entity to delete.
+   * @return the deferred response entity indicating the operation's result.
+   */
+  @DeleteMapping("/async/{id}")
+  public DeferredResult<ResponseEntity<Void>> deleteAsync(@PathVariable("id") S id) {
+    return deferred(service.deleteAsync(id), result -> ResponseEntity.noContent().build());
+  }
+
+  /**
+   * Completes a deferred result, with the default timeout of the asynchronous requests, with the
+   * response of a future. On timeout the future is cancelled, so the operation is dropped if it is
+   * still waiting in the queue of the executor.
+   */
+  private static <T, R> DeferredResult<ResponseEntity<R>> deferred(
+      CompletableFuture<T> future, Function<T, ResponseEntity<R>> response) {
+    DeferredResult<ResponseEntity<R>> result = new DeferredResult<>();
+    result.onTimeout(
+        () -> {
+          result.setErrorResult(
+              new ServiceUnavailableException(ExceptionConstants.ERROR_ASYNC_TIMEOUT));
+          future.cancel(false);
+        });
+    future.whenComplete(
+        (value, e) -> {
+          if (e == null) {
+            result.setResult(response.apply(value));
+          } else {
+            result.setErrorResult(
+                e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+          }
+        });
+    return result;
+  }
 }
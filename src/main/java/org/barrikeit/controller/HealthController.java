@@ -0,0 +1,42 @@
+package org.barrikeit.controller;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.service.dto.HealthDto;
+import org.barrikeit.service.health.HealthService;
+import org.barrikeit.service.health.HealthStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * <b>Health Controller Class</b>
+ *
+ * <p>Exposes the health of the application for the probes of the orchestrator. It answers from the
+ * results cached by the {@link HealthService}, so a probe never touches the database.
+ */
+@Log4j2
+@RestController
+@AllArgsConstructor
+@RequestMapping(value = "/health", produces = MediaType.APPLICATION_JSON_VALUE)
+public class HealthController {
+
+  private final HealthService healthService;
+
+  /**
+   * Retrieves the latest health of the application.
+   *
+   * @return {@code 200 OK} when every check is up, {@code 503 Service Unavailable} otherwise, with
+   *     the result of every check.
+   */
+  @GetMapping
+  public ResponseEntity<HealthDto> health() {
+    HealthDto health = healthService.getHealth();
+    HttpStatus status =
+        health.getStatus() == HealthStatus.UP ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+    return ResponseEntity.status(status).body(health);
+  }
+}
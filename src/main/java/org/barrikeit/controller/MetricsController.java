@@ -0,0 +1,36 @@
+package org.barrikeit.controller;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * <b>Metrics Controller Class</b>
+ *
+ * <p>Exposes the content of the {@link PrometheusMeterRegistry} in the Prometheus text exposition
+ * format so it can be scraped.
+ */
+@Log4j2
+@RestController
+@AllArgsConstructor
+@RequestMapping("/metrics")
+public class MetricsController {
+
+  private static final String CONTENT_TYPE = "text/plain;version=0.0.4;charset=utf-8";
+
+  private final PrometheusMeterRegistry meterRegistry;
+
+  /**
+   * Retrieves all the registered metrics.
+   *
+   * @return a response entity containing the metrics in the Prometheus text format.
+   */
+  @GetMapping(produces = CONTENT_TYPE)
+  public ResponseEntity<String> scrape() {
+    return ResponseEntity.ok(meterRegistry.scrape());
+  }
+}
@@ -1,6 +1,7 @@
 package org.barrikeit.model.domain;
 
 import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -14,6 +15,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.barrikeit.util.constants.EntityConstants;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @SuperBuilder(toBuilder = true)
 @AllArgsConstructor
@@ -22,10 +25,12 @@ import org.barrikeit.util.constants.EntityConstants;
 @Setter
 @Entity
 @Table(name = EntityConstants.USERS)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityConstants.USERS)
 @AttributeOverride(
     name = EntityConstants.ID,
     column = @Column(name = EntityConstants.ID_USER, nullable = false))
-public class User extends GenericEntity<Long> {
+public class User extends VersionedEntity<Long> {
   @Serial private static final long serialVersionUID = 1L;
 
   @Column(name = "username", length = 50, nullable = false, unique = true)
@@ -0,0 +1,39 @@
+package org.barrikeit.model.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.barrikeit.util.constants.EntityConstants;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * <b>Versioned Entity</b>
+ *
+ * <p>A {@link GenericEntity} with an optimistic lock {@link Version}, incremented by Hibernate on
+ * every update. An update of a row whose version changed since it was read fails instead of
+ * overwriting the other change, and the version lets the controllers answer conditional requests
+ * with ETags. The column defaults to {@code 0}, so it can be added to a table with rows.
+ *
+ * @param <I> the type of the entity's identifier.
+ */
+@SuperBuilder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@MappedSuperclass
+public abstract class VersionedEntity<I extends Serializable> extends GenericEntity<I> {
+  @Serial private static final long serialVersionUID = 1L;
+
+  @Version
+  @ColumnDefault("0")
+  @Column(name = EntityConstants.VERSION, nullable = false)
+  protected Long version;
+}
@@ -1,9 +1,15 @@
 package org.barrikeit.model.repository;
 
+import jakarta.persistence.QueryHint;
 import java.io.Serializable;
+import java.util.stream.Stream;
 import org.barrikeit.model.domain.GenericEntity;
+import org.barrikeit.util.constants.EntityConstants;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
 
 /**
@@ -20,4 +26,23 @@ import org.springframework.data.repository.NoRepositoryBean;
  */
 @NoRepositoryBean
 public interface GenericRepository<E extends GenericEntity<S>, S extends Serializable>
-    extends JpaRepository<E, S>, JpaSpecificationExecutor<E> {}
+    extends JpaRepository<E, S>, JpaSpecificationExecutor<E> {
+
+  /**
+   * Opens a read-only cursor over all the entities ordered by their identifier.
+   *
+   * <p>Rows are fetched from the JDBC driver in blocks of {@link EntityConstants#STREAM_FETCH_SIZE}
+   * instead of being loaded all at once. The stream must be consumed inside a transaction and
+   * closed afterwards.
+   *
+   * @return a stream of entities.
+   */
+  @QueryHints({
+    @QueryHint(
+        name = HibernateHints.HINT_FETCH_SIZE,
+        value = "" + EntityConstants.STREAM_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select e from #{#entityName} e order by e.id")
+  Stream<E> streamAll();
+}
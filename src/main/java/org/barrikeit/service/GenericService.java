@@ -1,18 +1,71 @@
 package org.barrikeit.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
-import lombok.AllArgsConstructor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationProperties;
 import org.barrikeit.model.domain.GenericEntity;
+import org.barrikeit.model.domain.VersionedEntity;
 import org.barrikeit.model.repository.GenericRepository;
+import org.barrikeit.service.cache.DtoCache;
+import org.barrikeit.service.cache.DtoCacheManager;
+import org.barrikeit.service.cache.SingleFlight;
+import org.barrikeit.service.dto.CursorPageDto;
 import org.barrikeit.service.dto.GenericDto;
+import org.barrikeit.service.dto.LookupDto;
+import org.barrikeit.service.dto.PageDto;
 import org.barrikeit.service.mapper.GenericMapper;
+import org.barrikeit.service.projection.DtoProjection;
+import org.barrikeit.service.search.SearchOperator;
+import org.barrikeit.service.search.SearchSpecification;
+import org.barrikeit.util.constants.ConfigurationConstants;
 import org.barrikeit.util.constants.EntityConstants;
 import org.barrikeit.util.constants.ExceptionConstants;
+import org.barrikeit.util.constants.UtilConstants;
+import org.barrikeit.util.exceptions.BadRequestException;
 import org.barrikeit.util.exceptions.NotFoundException;
+import org.barrikeit.util.exceptions.PreconditionFailedException;
+import org.barrikeit.util.exceptions.ServiceUnavailableException;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * <b>Generic Service Class</b>
@@ -21,26 +74,131 @@ import org.springframework.transaction.annotation.Transactional;
  * entities and their corresponding DTOs. It interacts with a {@link GenericRepository} for data
  * access and uses a {@link GenericMapper} for object mapping between entities and DTOs.
  *
+ * <p>The DTOs returned by {@link #find(Serializable)} can be cached by entity through {@code
+ * application.cache.dto.entities}; every write through the service evicts the entries it touches.
+ * The concurrent finds of the same identifier that miss the cache share a single read through a
+ * {@link SingleFlight}, so a popular entity is read once instead of once per caller.
+ *
+ * <p>For a {@link VersionedEntity} the service keeps a small index of the versions by identifier,
+ * so {@link #findVersion(Serializable)} reads the version of an entity without reading nor mapping
+ * it, and {@link #update(Serializable, GenericDto, Collection)} refuses to overwrite a version
+ * other than the expected ones.
+ *
+ * <p>Reads run in read-only transactions, so Hibernate loads the entities without dirty-checking
+ * snapshots and never flushes. The entities listed in {@code application.projection.entities} go
+ * further: their DTOs are selected straight from the columns with a {@link DtoProjection}, without
+ * hydrating the entities nor mapping them.
+ *
+ * <p>With {@code spring.jpa.persistence.mode: hibernate} the bulk operations, {@link
+ * #insertAll(Collection)} and {@link #streamAll(Consumer)}, run on a Hibernate {@link
+ * StatelessSession} that shares the connection of the transaction: the entities are inserted and
+ * read without a persistence context, snapshots nor second-level cache.
+ *
+ * <p>Every operation has an asynchronous variant, such as {@link #findAsync(Serializable)}, that
+ * runs it in its own transaction on the bounded {@code databaseExecutor} and returns a {@link
+ * CompletableFuture}. When the executor is saturated the future fails right away with a {@link
+ * ServiceUnavailableException}, and a task whose future is cancelled before it starts is never run.
+ *
  * @param <E> the entity type that extends {@link GenericEntity}.
  * @param <S> the type of the entity's identifier, which must be {@link Serializable}.
  * @param <D> the DTO type that extends {@link GenericDto}.
  */
 @Log4j2
-@AllArgsConstructor
 public abstract class GenericService<
     E extends GenericEntity<S>, S extends Serializable, D extends GenericDto> {
   private final GenericRepository<E, S> repository;
   private final GenericMapper<E, D> mapper;
+  private final Class<E> entityClass;
+  private final Class<S> idClass;
+  private final Class<D> dtoClass;
+
+  @PersistenceContext private EntityManager entityManager;
+  private int bulkChunkSize = 1000;
+  private boolean statelessBulk;
+  private DtoCache<S, D> dtoCache = DtoCache.disabled();
+  private SingleFlight<S, D> singleFlight;
+  private Cache<S, Long> versionIndex;
+  private DtoProjection<E, D> projection;
+  private Executor databaseExecutor;
+  private TransactionTemplate readTransaction;
+  private TransactionTemplate writeTransaction;
+  private int lookupChunkSize;
+
+  @SuppressWarnings("unchecked")
+  protected GenericService(GenericRepository<E, S> repository, GenericMapper<E, D> mapper) {
+    this.repository = repository;
+    this.mapper = mapper;
+    Class<?>[] typeArguments =
+        GenericTypeResolver.resolveTypeArguments(getClass(), GenericService.class);
+    if (typeArguments == null) {
+      throw new IllegalStateException("Cannot resolve the generic types of " + getClass());
+    }
+    this.entityClass = (Class<E>) typeArguments[0];
+    this.idClass = (Class<S>) typeArguments[1];
+    this.dtoClass = (Class<D>) typeArguments[2];
+  }
+
+  @Autowired
+  public void setDatabaseProperties(ApplicationProperties.DatabaseProperties dbProperties) {
+    this.bulkChunkSize = Math.max(1, dbProperties.getBulkChunkSize());
+    this.statelessBulk =
+        dbProperties.isPersistenceMode(ConfigurationConstants.PERSISTENCE_HIBERNATE);
+  }
+
+  @Autowired
+  public void setDtoCacheManager(DtoCacheManager dtoCacheManager) {
+    this.dtoCache = dtoCacheManager.getCache(entityClass);
+    this.singleFlight = dtoCacheManager.getSingleFlight(entityClass);
+    this.versionIndex = dtoCacheManager.getVersionIndex(entityClass);
+  }
+
+  @Autowired
+  public void setProjectionProperties(ApplicationProperties.ProjectionProperties properties) {
+    this.projection =
+        properties.isProjected(entityClass) ? DtoProjection.of(entityClass, dtoClass) : null;
+  }
+
+  @Autowired
+  public void setDatabaseExecutor(@Qualifier("databaseExecutor") Executor databaseExecutor) {
+    this.databaseExecutor = databaseExecutor;
+  }
+
+  @Autowired
+  public void setTransactionManager(PlatformTransactionManager transactionManager) {
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setReadOnly(true);
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  public Class<E> getEntityClass() {
+    return entityClass;
+  }
+
+  public Class<S> getIdClass() {
+    return idClass;
+  }
+
+  public Class<D> getDtoClass() {
+    return dtoClass;
+  }
+
+  /**
+   * Whether the entity is a {@link VersionedEntity}, so its versions can be read.
+   *
+   * @return {@code true} if the entity has an optimistic lock version.
+   */
+  public boolean isVersioned() {
+    return versionIndex != null;
+  }
 
   /**
    * Retrieves a list of all DTOs sorted by their identifier.
    *
    * @return a list of DTOs representing all entities.
    */
+  @Transactional(readOnly = true)
   public List<D> findAll() {
-    return repository.findAll(Sort.by(Sort.Direction.ASC, EntityConstants.ID)).stream()
-        .map(this.mapper::toDto)
-        .toList();
+    return readAll(Sort.by(Sort.Direction.ASC, EntityConstants.ID));
   }
 
   /**
@@ -49,15 +207,195 @@ public abstract class GenericService<
    * @param sort the sorting criteria.
    * @return a list of DTOs representing all entities.
    */
+  @Transactional(readOnly = true)
   public List<D> findAll(Sort sort) {
+    return readAll(sort);
+  }
+
+  private List<D> readAll(Sort sort) {
+    if (projection != null) {
+      return projection.list(entityManager, sort);
+    }
     return repository.findAll(sort).stream().map(this.mapper::toDto).toList();
   }
 
+  /**
+   * Retrieves a page of DTOs using keyset (cursor) pagination over the identifier.
+   *
+   * <p>Instead of an {@code OFFSET}, the query filters by {@code id > lastId} and relies on the
+   * identifier index, so every page costs the same no matter how deep it is. One extra row is
+   * requested to know whether there is a following page without a count query.
+   *
+   * @param lastId the identifier of the last element of the previous page, or {@code null} to start
+   *     from the beginning.
+   * @param limit the maximum number of elements of the page.
+   * @return the page of DTOs with the cursor of the next page, if any.
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public CursorPageDto<D> findAfter(S lastId, int limit) {
+    int size = Math.max(1, Math.min(limit, UtilConstants.MAX_PAGE_SIZE));
+    if (projection != null && projection.hasId()) {
+      List<D> dtos =
+          projection.list(
+              entityManager,
+              idGreaterThan(lastId),
+              Sort.by(Sort.Direction.ASC, EntityConstants.ID),
+              0,
+              size + 1);
+      boolean hasNext = dtos.size() > size;
+      List<D> page = hasNext ? dtos.subList(0, size) : dtos;
+      return CursorPageDto.<D>builder()
+          .content(page)
+          .size(page.size())
+          .nextCursor(hasNext ? encodeCursor((S) projection.getId(page.get(size - 1))) : null)
+          .build();
+    }
+    List<E> entities =
+        repository.findBy(
+            idGreaterThan(lastId),
+            query ->
+                query
+                    .sortBy(Sort.by(Sort.Direction.ASC, EntityConstants.ID))
+                    .limit(size + 1)
+                    .all());
+
+    boolean hasNext = entities.size() > size;
+    List<E> pageEntities = hasNext ? entities.subList(0, size) : entities;
+    String nextCursor = hasNext ? encodeCursor(pageEntities.get(size - 1).getId()) : null;
+    return CursorPageDto.<D>builder()
+        .content(pageEntities.stream().map(this.mapper::toDto).toList())
+        .size(pageEntities.size())
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * Encodes an identifier as an opaque, URL-safe pagination cursor.
+   *
+   * @param id the identifier to encode.
+   * @return the cursor token.
+   */
+  public String encodeCursor(S id) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor built by {@link #encodeCursor(Serializable)} back into an identifier.
+   *
+   * @param cursor the cursor token, may be {@code null} or blank.
+   * @return the identifier, or {@code null} if no cursor was given.
+   * @throws BadRequestException if the cursor is not valid for this entity.
+   */
+  public S decodeCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return DefaultConversionService.getSharedInstance().convert(value, idClass);
+    } catch (IllegalArgumentException | ConversionException e) {
+      throw new BadRequestException(ExceptionConstants.ERROR_INVALID_CURSOR, cursor);
+    }
+  }
+
+  /**
+   * Retrieves a page of the DTOs whose entities match all the filters.
+   *
+   * <p>The filters are translated into a {@link SearchSpecification}, so the database filters,
+   * sorts and paginates the rows and only the requested page is read.
+   *
+   * @param filters the filters of every field, as {@code op:value} (see {@link SearchOperator}).
+   * @param page the number of the page, starting at 0.
+   * @param size the maximum number of elements of the page.
+   * @param sort the sort entries, as {@code field} or {@code field,direction}; may be {@code null}.
+   * @return the page of DTOs with the total number of matching elements.
+   * @throws BadRequestException if a field does not belong to the entity or a value cannot be
+   *     converted to its type.
+   */
+  @Transactional(readOnly = true)
+  public PageDto<D> search(
+      Map<String, List<String>> filters, int page, int size, List<String> sort) {
+    PageRequest pageRequest =
+        PageRequest.of(
+            Math.max(0, page),
+            Math.max(1, Math.min(size, UtilConstants.MAX_PAGE_SIZE)),
+            SearchSpecification.sort(entityClass, sort));
+    Specification<E> specification = SearchSpecification.of(entityClass, filters);
+    Page<D> result;
+    if (projection != null) {
+      List<D> content =
+          projection.list(
+              entityManager,
+              specification,
+              pageRequest.getSort(),
+              pageRequest.getOffset(),
+              pageRequest.getPageSize());
+      result =
+          PageableExecutionUtils.getPage(
+              content, pageRequest, () -> repository.count(specification));
+    } else {
+      result = repository.findAll(specification, pageRequest).map(this.mapper::toDto);
+    }
+    return PageDto.<D>builder()
+        .content(result.getContent())
+        .page(result.getNumber())
+        .size(result.getNumberOfElements())
+        .totalElements(result.getTotalElements())
+        .totalPages(result.getTotalPages())
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Specification<E> idGreaterThan(S lastId) {
+    return (root, query, criteriaBuilder) ->
+        lastId == null
+            ? null
+            : criteriaBuilder.greaterThan(
+                root.<Comparable<Object>>get(EntityConstants.ID), (Comparable<Object>) lastId);
+  }
+
+  /**
+   * Streams all the entities, sorted by their identifier, to the given consumer as DTOs.
+   *
+   * <p>Entities are read through a database cursor and detached as soon as they are mapped, so the
+   * persistence context does not grow with the size of the table. In the {@code hibernate}
+   * persistence mode they are read by a {@link StatelessSession} and never attached at all.
+   *
+   * @param consumer the consumer that receives every DTO.
+   */
+  @Transactional(readOnly = true)
+  public void streamAll(Consumer<? super D> consumer) {
+    if (statelessBulk) {
+      try (StatelessSession session = openStatelessSession();
+          Stream<E> entities =
+              session
+                  .createSelectionQuery(
+                      "from " + entityClass.getName() + " e order by e." + EntityConstants.ID,
+                      entityClass)
+                  .setFetchSize(EntityConstants.STREAM_FETCH_SIZE)
+                  .getResultStream()) {
+        entities.forEach(entity -> consumer.accept(mapper.toDto(entity)));
+      }
+      return;
+    }
+    try (Stream<E> entities = repository.streamAll()) {
+      entities.forEach(
+          entity -> {
+            consumer.accept(mapper.toDto(entity));
+            entityManager.detach(entity);
+          });
+    }
+  }
+
   /**
    * Retrieves a list of all entities sorted by their identifier.
    *
    * @return a list of entities.
    */
+  @Transactional(readOnly = true)
   public List<E> findAllEntity() {
     return repository.findAll(Sort.by(Sort.Direction.ASC, EntityConstants.ID)).stream().toList();
   }
@@ -68,6 +406,7 @@ public abstract class GenericService<
    * @param sort the sorting criteria.
    * @return a list of entities.
    */
+  @Transactional(readOnly = true)
   public List<E> findAllEntity(Sort sort) {
     return repository.findAll(sort).stream().toList();
   }
@@ -75,17 +414,218 @@ public abstract class GenericService<
   /**
    * Retrieves a DTO by its identifier.
    *
+   * <p>If the entity opted in to the DTO cache, a cached DTO is returned without reading nor
+   * mapping the entity again. A projected DTO is read with a query, so it does not use the
+   * second-level cache of the entity.
+   *
+   * <p>Outside of a transaction, the concurrent finds of the same identifier are coalesced: only
+   * the first one opens a read-only transaction and reads the entity, and the rest wait for its DTO
+   * (or its {@link NotFoundException}) without taking a connection. Inside a transaction the entity
+   * is read in it, as it may hold uncommitted changes.
+   *
    * @param id the identifier of the entity to retrieve.
    * @return the DTO corresponding to the entity.
    * @throws NotFoundException if the entity is not found.
    */
   public D find(S id) {
+    return dtoCache.get(id, this::load);
+  }
+
+  private D load(S id) {
+    if (singleFlight == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return readTransaction.execute(status -> read(id));
+    }
+    return singleFlight.load(id, key -> readTransaction.execute(status -> read(key)));
+  }
+
+  private D read(S id) {
+    if (projection != null) {
+      D dto = projection.find(entityManager, id);
+      if (dto == null) {
+        throw new NotFoundException(ExceptionConstants.NOT_FOUND, id);
+      }
+      return dto;
+    }
     return repository
         .findById(id)
         .map(this.mapper::toDto)
         .orElseThrow(() -> new NotFoundException(ExceptionConstants.NOT_FOUND, id));
   }
 
+  /**
+   * Retrieves the DTOs of many entities by their identifiers, in one transaction.
+   *
+   * <p>The identifiers are deduplicated and the cached DTOs are taken from the DTO cache. The rest
+   * are read with {@code in} queries of at most as many identifiers as the dialect accepts in a
+   * list or as parameters of a statement: projected entities with their projection, and the others
+   * through Hibernate's multi-load, which takes the entities already in the persistence context or
+   * in the second-level cache without querying them.
+   *
+   * @param ids the identifiers of the entities to retrieve.
+   * @return the DTOs found, in the order of the identifiers, and the identifiers not found.
+   * @throws BadRequestException if there are more than {@link UtilConstants#MAX_LOOKUP_SIZE}
+   *     identifiers.
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public LookupDto<S, D> findAll(Collection<S> ids) {
+    if (ids.size() > UtilConstants.MAX_LOOKUP_SIZE) {
+      throw new BadRequestException(
+          ExceptionConstants.ERROR_LOOKUP_SIZE, ids.size(), UtilConstants.MAX_LOOKUP_SIZE);
+    }
+    List<S> uniqueIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+    Map<S, D> found = new HashMap<>();
+    List<S> misses = new ArrayList<>();
+    for (S id : uniqueIds) {
+      D dto = dtoCache.getIfPresent(id);
+      if (dto != null) {
+        found.put(id, dto);
+      } else {
+        misses.add(id);
+      }
+    }
+    if (!misses.isEmpty() && projection != null && projection.hasId()) {
+      for (int from = 0; from < misses.size(); from += lookupChunkSize()) {
+        List<S> chunk = misses.subList(from, Math.min(from + lookupChunkSize(), misses.size()));
+        projection
+            .findAll(entityManager, chunk)
+            .forEach(dto -> found.put((S) projection.getId(dto), dto));
+      }
+    } else if (!misses.isEmpty()) {
+      entityManager
+          .unwrap(Session.class)
+          .byMultipleIds(entityClass)
+          .enableSessionCheck(true)
+          .withBatchSize(lookupChunkSize())
+          .multiLoad(misses)
+          .stream()
+          .filter(Objects::nonNull)
+          .forEach(entity -> found.put(entity.getId(), mapper.toDto(entity)));
+    }
+    List<D> content = new ArrayList<>(found.size());
+    List<S> missing = new ArrayList<>();
+    for (S id : uniqueIds) {
+      D dto = found.get(id);
+      if (dto != null) {
+        content.add(dto);
+      } else {
+        missing.add(id);
+      }
+    }
+    return LookupDto.<S, D>builder().content(content).missing(missing).build();
+  }
+
+  /**
+   * The identifiers of each {@code in} query of {@link #findAll(Collection)}: the lowest limit of
+   * the dialect, or {@code spring.jpa.bulk.chunk-size} if it has none.
+   */
+  private int lookupChunkSize() {
+    if (lookupChunkSize == 0) {
+      Dialect dialect =
+          entityManager
+              .getEntityManagerFactory()
+              .unwrap(SessionFactoryImplementor.class)
+              .getJdbcServices()
+              .getDialect();
+      int size = bulkChunkSize;
+      if (dialect.getInExpressionCountLimit() > 0) {
+        size = Math.min(size, dialect.getInExpressionCountLimit());
+      }
+      if (dialect.getParameterCountLimit() > 0) {
+        size = Math.min(size, dialect.getParameterCountLimit());
+      }
+      lookupChunkSize = size;
+    }
+    return lookupChunkSize;
+  }
+
+  /**
+   * Retrieves the version of a versioned entity from the version index, reading only the version
+   * column on a miss.
+   *
+   * @param id the identifier of the entity.
+   * @return the current version of the entity.
+   * @throws NotFoundException if the entity is not found.
+   * @throws IllegalStateException if the entity is not versioned.
+   */
+  public long findVersion(S id) {
+    if (versionIndex == null) {
+      throw new IllegalStateException(entityClass.getSimpleName() + " is not versioned");
+    }
+    return versionIndex.get(id, key -> readTransaction.execute(status -> readVersion(key)));
+  }
+
+  private Long readVersion(S id) {
+    List<Long> versions =
+        entityManager
+            .createQuery(
+                "select e."
+                    + EntityConstants.VERSION
+                    + " from "
+                    + entityClass.getName()
+                    + " e where e."
+                    + EntityConstants.ID
+                    + " = :id",
+                Long.class)
+            .setParameter(EntityConstants.ID, id)
+            .getResultList();
+    if (versions.isEmpty()) {
+      throw new NotFoundException(ExceptionConstants.NOT_FOUND, id);
+    }
+    return versions.get(0);
+  }
+
+  /**
+   * Digests the identifiers and versions of the versioned entities of a page sorted by identifier,
+   * reading only those two columns. The digest changes whenever an entity of the page is created,
+   * updated or deleted, so it identifies the content of the page.
+   *
+   * @param lastId the identifier after which the page starts, or {@code null} to start from the
+   *     beginning.
+   * @param limit the maximum number of elements of the page, as in {@link #findAfter(Serializable,
+   *     int)}, or {@code 0} for all of them.
+   * @return the hexadecimal digest of the page.
+   * @throws IllegalStateException if the entity is not versioned.
+   */
+  @Transactional(readOnly = true)
+  public String findVersionDigest(S lastId, int limit) {
+    if (versionIndex == null) {
+      throw new IllegalStateException(entityClass.getSimpleName() + " is not versioned");
+    }
+    TypedQuery<Object[]> query =
+        entityManager.createQuery(
+            "select e."
+                + EntityConstants.ID
+                + ", e."
+                + EntityConstants.VERSION
+                + " from "
+                + entityClass.getName()
+                + " e"
+                + (lastId != null ? " where e." + EntityConstants.ID + " > :lastId" : "")
+                + " order by e."
+                + EntityConstants.ID,
+            Object[].class);
+    if (lastId != null) {
+      query.setParameter("lastId", lastId);
+    }
+    if (limit > 0) {
+      query.setMaxResults(Math.max(1, Math.min(limit, UtilConstants.MAX_PAGE_SIZE)) + 1);
+    }
+    MessageDigest digest = sha256();
+    for (Object[] row : query.getResultList()) {
+      digest.update((row[0] + ":" + row[1] + ";").getBytes(StandardCharsets.UTF_8));
+    }
+    return HexFormat.of().formatHex(digest.digest(), 0, 16);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   /**
    * Retrieves an entity by its identifier.
    *
@@ -93,6 +633,7 @@ public abstract class GenericService<
    * @return the entity.
    * @throws NotFoundException if the entity is not found.
    */
+  @Transactional(readOnly = true)
   public E findEntity(S id) {
     return repository
         .findById(id)
@@ -100,7 +641,9 @@ public abstract class GenericService<
   }
 
   /**
-   * Saves a new entity represented by the provided DTO.
+   * Saves the entity represented by the provided DTO. If the DTO carries the identifier of an
+   * existing entity, that entity is loaded and updated with the DTO; otherwise a new one is
+   * inserted.
    *
    * @param dto the DTO representing the entity to save.
    * @return the saved DTO.
@@ -108,7 +651,15 @@ public abstract class GenericService<
   @Transactional
   public D save(D dto) {
     E entity = mapper.toEntity(dto);
+    E current = entity.getId() == null ? null : repository.findById(entity.getId()).orElse(null);
+    if (current != null) {
+      mapper.updateEntity(dto, current);
+      entity = current;
+    } else {
+      entity.setId(null);
+    }
     entity = repository.save(entity);
+    evict(List.of(entity.getId()));
     return mapper.toDto(entity);
   }
 
@@ -120,7 +671,159 @@ public abstract class GenericService<
    */
   @Transactional
   public E save(E entity) {
-    return repository.save(entity);
+    E saved = repository.save(entity);
+    evict(List.of(saved.getId()));
+    return saved;
+  }
+
+  /**
+   * Saves all the entities represented by the provided DTOs in a single transaction. As in {@link
+   * #save(GenericDto)}, the DTOs with the identifier of an existing entity update it and the rest
+   * are inserted.
+   *
+   * <p>The DTOs are saved in chunks of {@code spring.jpa.bulk.chunk-size}: the existing entities of
+   * a chunk are loaded with one query, and the persistence context is flushed and cleared after
+   * every chunk, so the statements are sent in JDBC batches and the memory used does not grow with
+   * the number of elements.
+   *
+   * @param dtos the DTOs representing the entities to save.
+   * @return the saved DTOs, in the same order.
+   */
+  @Transactional
+  public List<D> saveAll(Collection<D> dtos) {
+    return saveAll(dtos, false);
+  }
+
+  private List<D> saveAll(Collection<D> dtos, boolean asNew) {
+    List<D> saved = new ArrayList<>(dtos.size());
+    List<D> chunk = new ArrayList<>(Math.min(bulkChunkSize, dtos.size()));
+    for (D dto : dtos) {
+      chunk.add(dto);
+      if (chunk.size() == bulkChunkSize) {
+        saveChunk(chunk, asNew, saved);
+      }
+    }
+    saveChunk(chunk, asNew, saved);
+    return saved;
+  }
+
+  /**
+   * Saves a chunk of DTOs: the ones with the identifier of an entity loaded by a single query
+   * update it, unless they are saved as new, and the rest are inserted. A versionless entity built
+   * by the mapper is never merged, as Hibernate would take it for a new one and insert a copy.
+   */
+  private void saveChunk(List<D> chunk, boolean asNew, List<D> saved) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    List<E> mapped = chunk.stream().map(mapper::toEntity).toList();
+    Map<S, E> existing = new HashMap<>();
+    if (!asNew) {
+      List<S> ids = mapped.stream().map(GenericEntity::getId).filter(Objects::nonNull).toList();
+      if (!ids.isEmpty()) {
+        repository.findAllById(ids).forEach(entity -> existing.put(entity.getId(), entity));
+      }
+    }
+    List<E> entities = new ArrayList<>(chunk.size());
+    for (int i = 0; i < chunk.size(); i++) {
+      E entity = mapped.get(i);
+      E current = entity.getId() == null ? null : existing.get(entity.getId());
+      if (current != null) {
+        mapper.updateEntity(chunk.get(i), current);
+        entities.add(current);
+      } else {
+        entity.setId(null);
+        entities.add(repository.save(entity));
+      }
+    }
+    chunk.clear();
+    flushAndClear(entities, saved);
+  }
+
+  /**
+   * Inserts all the entities represented by the provided DTOs as new rows, in a single transaction.
+   * The identifiers of the DTOs are ignored.
+   *
+   * <p>In the {@code hibernate} persistence mode the entities are inserted by a {@link
+   * StatelessSession} in JDBC batches of {@code spring.jpa.bulk.chunk-size}, without being attached
+   * to a persistence context nor flushed. Otherwise they are saved as in {@link
+   * #saveAll(Collection)}.
+   *
+   * @param dtos the DTOs representing the entities to insert.
+   * @return the inserted DTOs, in the same order.
+   */
+  @Transactional
+  public List<D> insertAll(Collection<D> dtos) {
+    if (!statelessBulk) {
+      return saveAll(dtos, true);
+    }
+    List<D> inserted = new ArrayList<>(dtos.size());
+    List<S> ids = new ArrayList<>(dtos.size());
+    try (StatelessSession session = openStatelessSession()) {
+      for (D dto : dtos) {
+        E entity = mapper.toEntity(dto);
+        entity.setId(null);
+        session.insert(entity);
+        ids.add(entity.getId());
+        inserted.add(mapper.toDto(entity));
+      }
+    }
+    evict(ids);
+    return inserted;
+  }
+
+  /**
+   * Opens a {@link StatelessSession} on the connection of the current transaction, so its
+   * statements are committed or rolled back with it. Its JDBC batch is executed when it is closed.
+   */
+  private StatelessSession openStatelessSession() {
+    Session session = entityManager.unwrap(Session.class);
+    StatelessSession statelessSession =
+        session.doReturningWork(
+            connection -> session.getSessionFactory().openStatelessSession(connection));
+    statelessSession.setJdbcBatchSize(bulkChunkSize);
+    return statelessSession;
+  }
+
+  /**
+   * Updates all the entities identified by the keys of the map with their DTO, in a single
+   * transaction.
+   *
+   * <p>The entities are loaded with one query per chunk of {@code spring.jpa.bulk.chunk-size}
+   * identifiers, and the persistence context is flushed and cleared after every chunk so the
+   * updates are sent in JDBC batches.
+   *
+   * @param dtos the DTOs containing the updated information, by the identifier of their entity.
+   * @return the updated DTOs.
+   * @throws NotFoundException if any of the entities is not found.
+   */
+  @Transactional
+  public List<D> updateAll(Map<S, D> dtos) {
+    List<D> updated = new ArrayList<>(dtos.size());
+    List<S> ids = new ArrayList<>(dtos.keySet());
+    for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+      List<S> chunkIds = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+      List<E> entities = repository.findAllById(chunkIds);
+      if (entities.size() != chunkIds.size()) {
+        List<S> found = entities.stream().map(GenericEntity::getId).toList();
+        S missing = chunkIds.stream().filter(id -> !found.contains(id)).findFirst().orElse(null);
+        throw new NotFoundException(ExceptionConstants.NOT_FOUND, missing);
+      }
+      entities.forEach(entity -> mapper.updateEntity(dtos.get(entity.getId()), entity));
+      flushAndClear(new ArrayList<>(entities), updated);
+    }
+    return updated;
+  }
+
+  private void flushAndClear(List<E> chunk, List<D> result) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    evict(chunk.stream().map(GenericEntity::getId).toList());
+    entityManager.flush();
+    chunk.forEach(entity -> result.add(mapper.toDto(entity)));
+    entityManager.clear();
+    chunk.clear();
   }
 
   /**
@@ -132,9 +835,44 @@ public abstract class GenericService<
    */
   @Transactional
   public D update(S id, D dto) {
+    return update(id, dto, null);
+  }
+
+  /**
+   * Updates an existing versioned entity only if its current version is one of the expected ones,
+   * so a client cannot overwrite a change it has not seen.
+   *
+   * <p>The version is checked in the transaction of the update, and the optimistic lock of the
+   * entity covers a concurrent update committed after the check: in both cases the update is
+   * refused with a {@link PreconditionFailedException}.
+   *
+   * @param id the identifier of the entity to update.
+   * @param dto the DTO containing the updated entity information.
+   * @param expectedVersions the versions the client has seen, or {@code null} to skip the check.
+   * @return the updated DTO.
+   * @throws NotFoundException if the entity is not found.
+   * @throws PreconditionFailedException if the entity has another version.
+   */
+  @Transactional
+  public D update(S id, D dto, Collection<Long> expectedVersions) {
     E entity = findEntity(id);
+    if (expectedVersions != null
+        && entity instanceof VersionedEntity<?> versioned
+        && !expectedVersions.contains(versioned.getVersion())) {
+      throw new PreconditionFailedException(
+          ExceptionConstants.ERROR_VERSION_MISMATCH, id, versioned.getVersion());
+    }
     mapper.updateEntity(dto, entity);
-    return mapper.toDto(repository.save(entity));
+    evict(List.of(id));
+    entity = repository.save(entity);
+    if (entity instanceof VersionedEntity<?>) {
+      try {
+        entityManager.flush();
+      } catch (OptimisticLockException e) {
+        throw new PreconditionFailedException(ExceptionConstants.ERROR_VERSION_MISMATCH, id, null);
+      }
+    }
+    return mapper.toDto(entity);
   }
 
   /**
@@ -145,5 +883,153 @@ public abstract class GenericService<
   @Transactional
   public void delete(S id) {
     repository.deleteById(id);
+    evict(List.of(id));
+  }
+
+  /**
+   * Asynchronous variant of {@link #findAll()}.
+   *
+   * @return a future of the list of DTOs representing all entities.
+   */
+  public CompletableFuture<List<D>> findAllAsync() {
+    return supplyAsync(readTransaction, this::findAll);
+  }
+
+  /**
+   * Asynchronous variant of {@link #findAfter(Serializable, int)}.
+   *
+   * @param lastId the identifier of the last element of the previous page, or {@code null}.
+   * @param limit the maximum number of elements of the page.
+   * @return a future of the page of DTOs.
+   */
+  public CompletableFuture<CursorPageDto<D>> findAfterAsync(S lastId, int limit) {
+    return supplyAsync(readTransaction, () -> findAfter(lastId, limit));
+  }
+
+  /**
+   * Asynchronous variant of {@link #search(Map, int, int, List)}.
+   *
+   * @param filters the filters of every field, as {@code op:value}.
+   * @param page the number of the page, starting at 0.
+   * @param size the maximum number of elements of the page.
+   * @param sort the sort entries; may be {@code null}.
+   * @return a future of the page of DTOs.
+   */
+  public CompletableFuture<PageDto<D>> searchAsync(
+      Map<String, List<String>> filters, int page, int size, List<String> sort) {
+    return supplyAsync(readTransaction, () -> search(filters, page, size, sort));
+  }
+
+  /**
+   * Asynchronous variant of {@link #find(Serializable)}.
+   *
+   * @param id the identifier of the entity to retrieve.
+   * @return a future of the DTO, failed with a {@link NotFoundException} if it is not found.
+   */
+  public CompletableFuture<D> findAsync(S id) {
+    return supplyAsync(() -> find(id));
+  }
+
+  /**
+   * Asynchronous variant of {@link #save(GenericDto)}.
+   *
+   * @param dto the DTO representing the entity to save.
+   * @return a future of the saved DTO.
+   */
+  public CompletableFuture<D> saveAsync(D dto) {
+    return supplyAsync(writeTransaction, () -> save(dto));
+  }
+
+  /**
+   * Asynchronous variant of {@link #saveAll(Collection)}.
+   *
+   * @param dtos the DTOs representing the entities to save.
+   * @return a future of the saved DTOs, in the same order.
+   */
+  public CompletableFuture<List<D>> saveAllAsync(Collection<D> dtos) {
+    return supplyAsync(writeTransaction, () -> saveAll(dtos));
+  }
+
+  /**
+   * Asynchronous variant of {@link #updateAll(Map)}.
+   *
+   * @param dtos the DTOs containing the updated information, by the identifier of their entity.
+   * @return a future of the updated DTOs.
+   */
+  public CompletableFuture<List<D>> updateAllAsync(Map<S, D> dtos) {
+    return supplyAsync(writeTransaction, () -> updateAll(dtos));
+  }
+
+  /**
+   * Asynchronous variant of {@link #update(Serializable, GenericDto)}.
+   *
+   * @param id the identifier of the entity to update.
+   * @param dto the DTO containing the updated entity information.
+   * @return a future of the updated DTO.
+   */
+  public CompletableFuture<D> updateAsync(S id, D dto) {
+    return supplyAsync(writeTransaction, () -> update(id, dto));
+  }
+
+  /**
+   * Asynchronous variant of {@link #delete(Serializable)}.
+   *
+   * @param id the identifier of the entity to delete.
+   * @return a future completed once the entity is deleted.
+   */
+  public CompletableFuture<Void> deleteAsync(S id) {
+    return supplyAsync(
+        writeTransaction,
+        () -> {
+          delete(id);
+          return null;
+        });
+  }
+
+  /**
+   * Runs an operation in a transaction on the database executor. The operations are called on the
+   * service itself, not through its proxy, so the transaction is opened by the template.
+   */
+  private <T> CompletableFuture<T> supplyAsync(
+      TransactionTemplate transaction, Supplier<T> operation) {
+    return supplyAsync(() -> transaction.execute(status -> operation.get()));
+  }
+
+  private <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+    try {
+      return CompletableFuture.supplyAsync(operation, databaseExecutor);
+    } catch (TaskRejectedException e) {
+      return CompletableFuture.failedFuture(
+          new ServiceUnavailableException(ExceptionConstants.ERROR_DATABASE_BUSY));
+    }
+  }
+
+  /**
+   * Evicts the cached DTOs of the identifiers, both right away and once the current transaction
+   * completes, so a concurrent {@link #find(Serializable)} cannot cache the previous state of the
+   * entities while the transaction is still uncommitted. Their reads in flight are forgotten too,
+   * so the finds that come after the write do not wait for a value read before it.
+   */
+  private void evict(List<S> ids) {
+    ids.forEach(this::evict);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              ids.forEach(GenericService.this::evict);
+            }
+          });
+    }
+  }
+
+  private void evict(S id) {
+    dtoCache.evict(id);
+    if (versionIndex != null) {
+      versionIndex.invalidate(id);
+    }
+    if (singleFlight != null) {
+      singleFlight.forget(id);
+    }
   }
 }
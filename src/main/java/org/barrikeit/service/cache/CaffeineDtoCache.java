@@ -0,0 +1,45 @@
+package org.barrikeit.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.io.Serializable;
+import java.util.function.Function;
+import org.barrikeit.service.dto.GenericDto;
+
+/**
+ * <b>Caffeine DTO Cache</b>
+ *
+ * <p>{@link DtoCache} backed by a size and time bounded Caffeine {@link Cache}. Concurrent misses
+ * of the same identifier are loaded only once.
+ *
+ * @param <S> the type of the entity's identifier.
+ * @param <D> the DTO type that extends {@link GenericDto}.
+ */
+public class CaffeineDtoCache<S extends Serializable, D extends GenericDto>
+    implements DtoCache<S, D> {
+
+  private final Cache<S, D> cache;
+
+  public CaffeineDtoCache(Cache<S, D> cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public D get(S id, Function<? super S, ? extends D> loader) {
+    return cache.get(id, loader);
+  }
+
+  @Override
+  public D getIfPresent(S id) {
+    return cache.getIfPresent(id);
+  }
+
+  @Override
+  public void evict(S id) {
+    cache.invalidate(id);
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+}
@@ -0,0 +1,79 @@
+package org.barrikeit.service.cache;
+
+import java.io.Serializable;
+import java.util.function.Function;
+import org.barrikeit.service.dto.GenericDto;
+
+/**
+ * <b>DTO Cache</b>
+ *
+ * <p>Read-through cache of the DTOs mapped by a {@code GenericService}, keyed by the identifier of
+ * their entity. Each service owns the cache of its entity class, so the entries are effectively
+ * keyed by entity class and identifier.
+ *
+ * <p>The cached DTOs are shared between callers and must be treated as read-only.
+ *
+ * @param <S> the type of the entity's identifier.
+ * @param <D> the DTO type that extends {@link GenericDto}.
+ */
+public interface DtoCache<S extends Serializable, D extends GenericDto> {
+
+  /**
+   * Returns the cached DTO of the identifier, loading and caching it on a miss.
+   *
+   * @param id the identifier of the entity.
+   * @param loader the function that reads and maps the entity on a miss.
+   * @return the DTO of the entity.
+   */
+  D get(S id, Function<? super S, ? extends D> loader);
+
+  /**
+   * Returns the cached DTO of the identifier, without loading it on a miss.
+   *
+   * @param id the identifier of the entity.
+   * @return the cached DTO, or {@code null} if it is not cached.
+   */
+  D getIfPresent(S id);
+
+  /**
+   * Removes the DTO of the identifier, if present.
+   *
+   * @param id the identifier of the entity.
+   */
+  void evict(S id);
+
+  /** Removes every cached DTO. */
+  void clear();
+
+  /**
+   * A cache that stores nothing and always calls the loader, used by the services that did not opt
+   * in.
+   *
+   * @param <S> the type of the entity's identifier.
+   * @param <D> the DTO type that extends {@link GenericDto}.
+   * @return the disabled cache.
+   */
+  static <S extends Serializable, D extends GenericDto> DtoCache<S, D> disabled() {
+    return new DtoCache<>() {
+      @Override
+      public D get(S id, Function<? super S, ? extends D> loader) {
+        return loader.apply(id);
+      }
+
+      @Override
+      public D getIfPresent(S id) {
+        return null;
+      }
+
+      @Override
+      public void evict(S id) {
+        // nothing cached
+      }
+
+      @Override
+      public void clear() {
+        // nothing cached
+      }
+    };
+  }
+}
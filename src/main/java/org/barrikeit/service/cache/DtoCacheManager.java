@@ -0,0 +1,113 @@
+package org.barrikeit.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.Serializable;
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.model.domain.VersionedEntity;
+import org.barrikeit.service.dto.GenericDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * <b>DTO Cache Manager</b>
+ *
+ * <p>Creates the {@link DtoCache} of each service. Only the entities listed in {@code
+ * application.cache.dto.entities} get a Caffeine cache, bounded by {@code maximum-size} and {@code
+ * expire-after-write}; the rest get a {@link DtoCache#disabled() disabled} one.
+ *
+ * <p>The hits, misses, evictions and size of every cache are published in the {@link MeterRegistry}
+ * as {@code cache.*} meters, tagged with {@code cache=dto.<Entity>}.
+ *
+ * <p>It also creates the {@link SingleFlight} of each service, unless {@code
+ * application.cache.single-flight} is disabled. The finds that were coalesced are counted in the
+ * {@code service.find.coalesced} counter, tagged with {@code entity=<Entity>}.
+ *
+ * <p>The services of the {@link VersionedEntity versioned entities} also get a version index, the
+ * version of every recently read identifier, published as {@code cache=version.<Entity>}.
+ */
+@Log4j2
+@Component
+@AllArgsConstructor
+public class DtoCacheManager {
+
+  private static final String CACHE_PREFIX = "dto.";
+  private static final String VERSION_PREFIX = "version.";
+
+  private final ApplicationProperties.CacheProperties cacheProperties;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creates the DTO cache of an entity class.
+   *
+   * @param entityClass the entity class whose DTOs are cached.
+   * @return the cache, or a disabled one if the entity did not opt in.
+   * @param <S> the type of the entity's identifier.
+   * @param <D> the DTO type that extends {@link GenericDto}.
+   */
+  public <S extends Serializable, D extends GenericDto> DtoCache<S, D> getCache(
+      Class<?> entityClass) {
+    if (!cacheProperties.isDtoCached(entityClass)) {
+      return DtoCache.disabled();
+    }
+    String name = CACHE_PREFIX + entityClass.getSimpleName();
+    log.info("***Creating DTO cache {}", name);
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder().maximumSize(cacheProperties.getDtoMaximumSize()).recordStats();
+    if (cacheProperties.getDtoExpireAfterWrite() > 0) {
+      builder.expireAfterWrite(Duration.ofMillis(cacheProperties.getDtoExpireAfterWrite()));
+    }
+    Cache<S, D> cache = builder.build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    return new CaffeineDtoCache<>(cache);
+  }
+
+  /**
+   * Creates the version index of an entity class, bounded by {@code application.cache.version.*}.
+   *
+   * @param entityClass the entity class whose versions are indexed.
+   * @return the index of the versions by identifier, or {@code null} if the entity is not a {@link
+   *     VersionedEntity}.
+   * @param <S> the type of the entity's identifier.
+   */
+  public <S extends Serializable> Cache<S, Long> getVersionIndex(Class<?> entityClass) {
+    if (!VersionedEntity.class.isAssignableFrom(entityClass)) {
+      return null;
+    }
+    String name = VERSION_PREFIX + entityClass.getSimpleName();
+    log.info("***Creating version index {}", name);
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder().maximumSize(cacheProperties.getVersionMaximumSize()).recordStats();
+    if (cacheProperties.getVersionExpireAfterWrite() > 0) {
+      builder.expireAfterWrite(Duration.ofMillis(cacheProperties.getVersionExpireAfterWrite()));
+    }
+    Cache<S, Long> index = builder.build();
+    CaffeineCacheMetrics.monitor(meterRegistry, index, name);
+    return index;
+  }
+
+  /**
+   * Creates the single flight of the finds of an entity class.
+   *
+   * @param entityClass the entity class whose finds are coalesced.
+   * @return the single flight, or {@code null} if it is disabled.
+   * @param <S> the type of the entity's identifier.
+   * @param <D> the DTO type that extends {@link GenericDto}.
+   */
+  public <S extends Serializable, D extends GenericDto> SingleFlight<S, D> getSingleFlight(
+      Class<?> entityClass) {
+    if (!cacheProperties.isSingleFlight()) {
+      return null;
+    }
+    return new SingleFlight<>(
+        Counter.builder("service.find.coalesced")
+            .description("Finds that waited for the read of the same identifier already running")
+            .tag("entity", entityClass.getSimpleName())
+            .register(meterRegistry));
+  }
+}
@@ -0,0 +1,80 @@
+package org.barrikeit.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <b>Single Flight</b>
+ *
+ * <p>Coalesces the concurrent loads of the same key: the first caller runs the loader and the
+ * callers that arrive while it is running wait for its result, or its exception, instead of running
+ * the loader again. The in-flight loads are kept in a {@link ConcurrentHashMap} only while they
+ * run, so nothing is cached once a load completes.
+ *
+ * <p>The callers that were coalesced are counted in the given {@link Counter}.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the loaded values.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter coalesced;
+
+  public SingleFlight(Counter coalesced) {
+    this.coalesced = coalesced;
+  }
+
+  /**
+   * Loads the value of a key, or waits for the load of the key already in flight.
+   *
+   * @param key the key to load.
+   * @param loader the function that loads the value of the key.
+   * @return the loaded value, shared with the coalesced callers.
+   */
+  public V load(K key, Function<? super K, ? extends V> loader) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+    if (running != null) {
+      coalesced.increment();
+      return await(running);
+    }
+    try {
+      V value = loader.apply(key);
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  /**
+   * Detaches the load in flight of a key, if any, so the next callers start a new one instead of
+   * waiting for a value read before a write. The callers already waiting still get its result.
+   *
+   * @param key the key whose value changed.
+   */
+  public void forget(K key) {
+    inFlight.remove(key);
+  }
+
+  private static <V> V await(CompletableFuture<V> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
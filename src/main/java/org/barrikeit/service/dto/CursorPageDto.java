@@ -0,0 +1,30 @@
+package org.barrikeit.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <b>Cursor Page DTO</b>
+ *
+ * <p>A single page of a keyset (cursor) pagination. The {@code nextCursor} is an opaque token that
+ * must be sent back as the {@code after} parameter to fetch the following page; it is {@code null}
+ * when there are no more elements.
+ *
+ * @param <D> the DTO type that extends {@link GenericDto}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class CursorPageDto<D extends GenericDto> implements Serializable {
+
+  private List<D> content;
+  private int size;
+  private String nextCursor;
+}
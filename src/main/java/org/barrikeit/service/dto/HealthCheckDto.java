@@ -0,0 +1,46 @@
+package org.barrikeit.service.dto;
+
+import java.io.Serializable;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.barrikeit.service.health.HealthStatus;
+
+/**
+ * <b>Health Check DTO</b>
+ *
+ * <p>Latest result of a single health check: its status, the details it reported, how long it took
+ * and when it finished.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class HealthCheckDto implements Serializable {
+
+  private HealthStatus status;
+  private Map<String, Object> details;
+  private String error;
+  private long durationMs;
+  private String checkedAt;
+
+  public static HealthCheckDto up(Map<String, Object> details) {
+    return HealthCheckDto.builder().status(HealthStatus.UP).details(details).build();
+  }
+
+  public static HealthCheckDto down(Map<String, Object> details) {
+    return HealthCheckDto.builder().status(HealthStatus.DOWN).details(details).build();
+  }
+
+  public static HealthCheckDto down(String error) {
+    return HealthCheckDto.builder()
+        .status(HealthStatus.DOWN)
+        .details(Map.of())
+        .error(error)
+        .build();
+  }
+}
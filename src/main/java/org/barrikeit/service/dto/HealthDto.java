@@ -0,0 +1,27 @@
+package org.barrikeit.service.dto;
+
+import java.io.Serializable;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.barrikeit.service.health.HealthStatus;
+
+/**
+ * <b>Health DTO</b>
+ *
+ * <p>Aggregated health of the application: it is {@link HealthStatus#UP} only when every check is
+ * up.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class HealthDto implements Serializable {
+
+  private HealthStatus status;
+  private Map<String, HealthCheckDto> checks;
+}
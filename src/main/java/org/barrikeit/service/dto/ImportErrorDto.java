@@ -0,0 +1,27 @@
+package org.barrikeit.service.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <b>Import Error DTO</b>
+ *
+ * <p>A row of an imported file that was not saved: its position in the file, the column at fault
+ * when it is known and the reason.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ImportErrorDto implements Serializable {
+
+  private String sheet;
+  private long row;
+  private String column;
+  private String message;
+}
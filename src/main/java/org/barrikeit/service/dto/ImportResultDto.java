@@ -0,0 +1,29 @@
+package org.barrikeit.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <b>Import Result DTO</b>
+ *
+ * <p>The outcome of an import: the number of rows read, saved and rejected, and the errors of the
+ * rejected rows. Only the first {@code application.import.max-errors} errors are listed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ImportResultDto implements Serializable {
+
+  private long rows;
+  private long imported;
+  private long failed;
+  private long durationMs;
+  private List<ImportErrorDto> errors;
+}
@@ -0,0 +1,29 @@
+package org.barrikeit.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <b>Lookup DTO</b>
+ *
+ * <p>The result of reading many entities by their identifiers: the DTOs found, in the order the
+ * identifiers were requested and without duplicates, and the identifiers that have no entity.
+ *
+ * @param <S> the type of the entity's identifier.
+ * @param <D> the DTO type that extends {@link GenericDto}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class LookupDto<S extends Serializable, D extends GenericDto> implements Serializable {
+
+  private List<D> content;
+  private List<S> missing;
+}
@@ -0,0 +1,31 @@
+package org.barrikeit.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <b>Page DTO</b>
+ *
+ * <p>A single page of an offset pagination, with the total number of elements that match the query.
+ * Pages are numbered from 0.
+ *
+ * @param <D> the DTO type that extends {@link GenericDto}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PageDto<D extends GenericDto> implements Serializable {
+
+  private List<D> content;
+  private int page;
+  private int size;
+  private long totalElements;
+  private int totalPages;
+}
@@ -11,11 +11,12 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-public class UserDto extends GenericDto {
+public class UserDto extends GenericDto implements VersionedDto {
 
   private Long id;
   private String username;
   private String email;
+  private Long version;
 
   @Override
   public String toString() {
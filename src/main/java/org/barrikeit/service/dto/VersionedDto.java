@@ -0,0 +1,19 @@
+package org.barrikeit.service.dto;
+
+/**
+ * <b>Versioned DTO</b>
+ *
+ * <p>A DTO of a {@link org.barrikeit.model.domain.VersionedEntity} that carries the version of the
+ * entity it was read from, so the {@code ETag} of a response is the version of the body it is sent
+ * with, wherever that body was cached. The version is only read: the mappers ignore it when they
+ * copy a DTO into an entity, and the version a client expects is sent with {@code If-Match}.
+ */
+public interface VersionedDto {
+
+  /**
+   * The version of the entity the DTO was read from.
+   *
+   * @return the version, or {@code null} if the DTO was not read from an entity.
+   */
+  Long getVersion();
+}
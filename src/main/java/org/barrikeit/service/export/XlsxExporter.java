@@ -0,0 +1,184 @@
+package org.barrikeit.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.util.FieldAccessor;
+import org.barrikeit.util.ReflectionUtil;
+import org.barrikeit.util.TimeUtil;
+import org.barrikeit.util.constants.UtilConstants;
+import org.springframework.stereotype.Component;
+
+/**
+ * <b>XLSX Exporter</b>
+ *
+ * <p>Writes a stream of objects as an XLSX workbook with a {@link SXSSFWorkbook}: only the last
+ * {@code application.export.xlsx.window-size} rows are kept in memory and the older ones are
+ * flushed to a temporary file, so the heap used does not depend on the number of rows.
+ *
+ * <p>There is one column per readable field of the class, with the name of the field as header. The
+ * columns and their {@link FieldAccessor} are resolved once per export, not per cell. Numbers,
+ * booleans and dates are written as typed cells; anything else as text. When a sheet reaches the
+ * maximum number of rows of the format, the following rows go to a new sheet.
+ */
+@Log4j2
+@Component
+@AllArgsConstructor
+public class XlsxExporter {
+
+  public static final String CONTENT_TYPE =
+      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+  public static final String EXTENSION = ".xlsx";
+
+  private static final DateTimeFormatter FILE_NAME_FORMATTER =
+      DateTimeFormatter.ofPattern(UtilConstants.PATTERN_DATE_TIME_DOWNLOAD);
+  private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+  private static final int MAX_TEXT_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+
+  private final ApplicationProperties.ExportProperties exportProperties;
+
+  /**
+   * Builds the name of an export file, such as {@code User_31-12-2024_235959.xlsx}.
+   *
+   * @param name the name of the exported data.
+   * @return the file name.
+   */
+  public static String fileName(String name) {
+    return name + "_" + TimeUtil.localDateTimeNow().format(FILE_NAME_FORMATTER) + EXTENSION;
+  }
+
+  /**
+   * Writes all the objects supplied by the source as a workbook.
+   *
+   * @param type the class of the objects, which defines the columns.
+   * @param name the name of the sheets.
+   * @param source the source of the rows: it receives the consumer to call once per object.
+   * @param output the stream the workbook is written to; it is not closed.
+   * @param <T> the type of the objects.
+   * @return the number of rows written, without headers.
+   * @throws IOException if the workbook cannot be written.
+   */
+  public <T> long export(
+      Class<T> type, String name, Consumer<Consumer<T>> source, OutputStream output)
+      throws IOException {
+    List<FieldAccessor> columns =
+        ReflectionUtil.getAccessors(type).values().stream()
+            .filter(accessor -> !Modifier.isStatic(accessor.getField().getModifiers()))
+            .filter(FieldAccessor::isReadable)
+            .toList();
+
+    SXSSFWorkbook workbook = new SXSSFWorkbook(exportProperties.getXlsxWindowSize());
+    workbook.setCompressTempFiles(exportProperties.isXlsxCompressTempFiles());
+    try (workbook) {
+      SheetWriter writer =
+          new SheetWriter(workbook, WorkbookUtil.createSafeSheetName(name), columns);
+      try {
+        source.accept(writer::write);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      workbook.write(output);
+      log.debug("Exported {} rows of {} to XLSX", writer.count, name);
+      return writer.count;
+    } finally {
+      workbook.dispose();
+    }
+  }
+
+  /** Writes the rows of a workbook, one sheet after another. */
+  private static final class SheetWriter {
+    private final SXSSFWorkbook workbook;
+    private final String name;
+    private final List<FieldAccessor> columns;
+    private final CellStyle headerStyle;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+
+    private Sheet sheet;
+    private int rowIndex;
+    private long count;
+
+    private SheetWriter(SXSSFWorkbook workbook, String name, List<FieldAccessor> columns) {
+      this.workbook = workbook;
+      this.name = name;
+      this.columns = columns;
+      Font bold = workbook.createFont();
+      bold.setBold(true);
+      this.headerStyle = workbook.createCellStyle();
+      this.headerStyle.setFont(bold);
+      this.dateStyle = dateStyle(UtilConstants.PATTERN_LOCAL_DATE);
+      this.dateTimeStyle = dateStyle(UtilConstants.PATTERN_DATE_TIME);
+    }
+
+    private CellStyle dateStyle(String pattern) {
+      CellStyle style = workbook.createCellStyle();
+      style.setDataFormat(workbook.createDataFormat().getFormat(pattern));
+      return style;
+    }
+
+    private void write(Object instance) {
+      if (sheet == null || rowIndex == MAX_ROWS) {
+        newSheet();
+      }
+      Row row = sheet.createRow(rowIndex++);
+      for (int i = 0; i < columns.size(); i++) {
+        Object value = columns.get(i).get(instance);
+        if (value != null) {
+          setValue(row.createCell(i), value);
+        }
+      }
+      count++;
+    }
+
+    private void newSheet() {
+      int number = workbook.getNumberOfSheets();
+      sheet = workbook.createSheet(number == 0 ? name : name + " (" + (number + 1) + ")");
+      Row header = sheet.createRow(0);
+      for (int i = 0; i < columns.size(); i++) {
+        Cell cell = header.createCell(i);
+        cell.setCellValue(columns.get(i).getName());
+        cell.setCellStyle(headerStyle);
+      }
+      rowIndex = 1;
+    }
+
+    private void setValue(Cell cell, Object value) {
+      if (value instanceof Number number) {
+        cell.setCellValue(number.doubleValue());
+      } else if (value instanceof Boolean bool) {
+        cell.setCellValue(bool);
+      } else if (value instanceof LocalDateTime dateTime) {
+        cell.setCellValue(dateTime);
+        cell.setCellStyle(dateTimeStyle);
+      } else if (value instanceof LocalDate date) {
+        cell.setCellValue(date);
+        cell.setCellStyle(dateStyle);
+      } else if (value instanceof Date date) {
+        cell.setCellValue(date);
+        cell.setCellStyle(dateTimeStyle);
+      } else {
+        String text = value.toString();
+        cell.setCellValue(
+            text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text);
+      }
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package org.barrikeit.service.health;
+
+import java.sql.Connection;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.AllArgsConstructor;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.service.dto.HealthCheckDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * <b>Database Health Check</b>
+ *
+ * <p>Borrows a connection from the pool and validates it against the database. Its duration, the
+ * database ping latency, is published as the {@code health.check.duration} timer with the {@code
+ * check=db} tag.
+ */
+@Component
+@AllArgsConstructor
+public class DatabaseHealthCheck implements HealthCheck {
+
+  private final DataSource dataSource;
+  private final ApplicationProperties.HealthProperties healthProperties;
+
+  @Override
+  public String getName() {
+    return "db";
+  }
+
+  @Override
+  public HealthCheckDto check() throws Exception {
+    int timeoutSeconds = (int) Math.max(1, healthProperties.getTimeout() / 1000);
+    try (Connection connection = dataSource.getConnection()) {
+      Map<String, Object> details =
+          Map.of("database", connection.getMetaData().getDatabaseProductName());
+      return connection.isValid(timeoutSeconds)
+          ? HealthCheckDto.up(details)
+          : HealthCheckDto.down(details);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package org.barrikeit.service.health;
+
+import java.io.File;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.service.dto.HealthCheckDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * <b>Disk Space Health Check</b>
+ *
+ * <p>Down when the usable space of {@code application.health.disk.path} falls below {@code
+ * application.health.disk.min-free} bytes.
+ */
+@Component
+@AllArgsConstructor
+public class DiskSpaceHealthCheck implements HealthCheck {
+
+  private static final long MB = 1024L * 1024L;
+
+  private final ApplicationProperties.HealthProperties healthProperties;
+
+  @Override
+  public String getName() {
+    return "disk";
+  }
+
+  @Override
+  public HealthCheckDto check() {
+    File path = new File(healthProperties.getDiskPath());
+    long free = path.getUsableSpace();
+    Map<String, Object> details =
+        Map.of(
+            "path",
+            path.getAbsolutePath(),
+            "freeMb",
+            free / MB,
+            "totalMb",
+            path.getTotalSpace() / MB);
+    return free >= healthProperties.getDiskMinFree()
+        ? HealthCheckDto.up(details)
+        : HealthCheckDto.down(details);
+  }
+}
@@ -0,0 +1,25 @@
+package org.barrikeit.service.health;
+
+import org.barrikeit.service.dto.HealthCheckDto;
+
+/**
+ * <b>Health Check</b>
+ *
+ * <p>A single check of the health of the application, run periodically in background by the {@link
+ * HealthService}. Implementations may block, the service bounds them with a timeout.
+ */
+public interface HealthCheck {
+
+  /**
+   * @return the name of the check, used as key of the results and as tag of its metrics.
+   */
+  String getName();
+
+  /**
+   * Runs the check.
+   *
+   * @return the result of the check with its details.
+   * @throws Exception if the check fails, which is reported as {@link HealthStatus#DOWN}.
+   */
+  HealthCheckDto check() throws Exception;
+}
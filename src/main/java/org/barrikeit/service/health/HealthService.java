@@ -0,0 +1,153 @@
+package org.barrikeit.service.health;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.service.dto.HealthCheckDto;
+import org.barrikeit.service.dto.HealthDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * <b>Health Service Class</b>
+ *
+ * <p>Runs every {@link HealthCheck} concurrently on the {@code healthCheckExecutor} and keeps the
+ * latest result of each one, so {@link #getHealth()} answers from memory and never waits for a slow
+ * dependency.
+ *
+ * <p>A check that does not finish within {@code application.health.timeout} is reported as {@link
+ * HealthStatus#DOWN}. It is not started again while the previous run is still blocked, so a hung
+ * database cannot exhaust the executor.
+ *
+ * <p>Each check publishes the {@code health.check.duration} timer and the {@code health.status}
+ * gauge (1 when up, 0 otherwise), both tagged with the name of the check.
+ */
+@Log4j2
+@Service
+public class HealthService {
+
+  private final List<HealthCheck> checks;
+  private final Executor executor;
+  private final MeterRegistry meterRegistry;
+  private final ApplicationProperties.HealthProperties healthProperties;
+
+  private final Map<String, HealthCheckDto> results = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<HealthCheckDto>> running = new ConcurrentHashMap<>();
+  private volatile long lastRefresh;
+
+  public HealthService(
+      List<HealthCheck> checks,
+      @Qualifier("healthCheckExecutor") Executor executor,
+      MeterRegistry meterRegistry,
+      ApplicationProperties.HealthProperties healthProperties) {
+    this.checks = checks;
+    this.executor = executor;
+    this.meterRegistry = meterRegistry;
+    this.healthProperties = healthProperties;
+    for (HealthCheck check : checks) {
+      Gauge.builder("health.status", results, r -> isUp(r.get(check.getName())) ? 1 : 0)
+          .description("1 when the health check is up, 0 otherwise")
+          .tag("check", check.getName())
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Starts a run of every health check that is not still running, without waiting for them. The
+   * results are stored as soon as each check finishes or times out.
+   */
+  public void refresh() {
+    lastRefresh = System.currentTimeMillis();
+    for (HealthCheck check : checks) {
+      CompletableFuture<HealthCheckDto> previous = running.get(check.getName());
+      if (previous != null && !previous.isDone()) {
+        log.warn("Health check {} is still running, skipping it", check.getName());
+        continue;
+      }
+      try {
+        CompletableFuture<HealthCheckDto> future =
+            CompletableFuture.supplyAsync(() -> execute(check), executor);
+        running.put(check.getName(), future);
+        future
+            .copy()
+            .orTimeout(healthProperties.getTimeout(), TimeUnit.MILLISECONDS)
+            .exceptionally(e -> timedOut())
+            .thenAccept(result -> results.put(check.getName(), result));
+      } catch (TaskRejectedException e) {
+        results.put(check.getName(), completed(HealthCheckDto.down(e.getMessage()), 0));
+      }
+    }
+  }
+
+  /**
+   * Retrieves the latest health of the application from the cached results.
+   *
+   * <p>The status is {@link HealthStatus#UNKNOWN} until every check has finished once, or when the
+   * checks have not been refreshed for three intervals.
+   *
+   * @return the aggregated status with the result of every check.
+   */
+  public HealthDto getHealth() {
+    Map<String, HealthCheckDto> checkResults = new TreeMap<>(results);
+    HealthStatus status = HealthStatus.UP;
+    if (checkResults.size() < checks.size() || isStale()) {
+      status = HealthStatus.UNKNOWN;
+    }
+    for (HealthCheckDto result : checkResults.values()) {
+      if (result.getStatus() == HealthStatus.DOWN) {
+        status = HealthStatus.DOWN;
+      }
+    }
+    return HealthDto.builder().status(status).checks(checkResults).build();
+  }
+
+  private HealthCheckDto execute(HealthCheck check) {
+    long start = System.nanoTime();
+    HealthCheckDto result;
+    try {
+      result = check.check();
+    } catch (Exception e) {
+      log.error("Health check {} failed: {}", check.getName(), e.getMessage());
+      result = HealthCheckDto.down(e.getMessage());
+    }
+    long duration = System.nanoTime() - start;
+    Timer.builder("health.check.duration")
+        .description("Duration of the health checks")
+        .tag("check", check.getName())
+        .tag("status", result.getStatus().name())
+        .register(meterRegistry)
+        .record(duration, TimeUnit.NANOSECONDS);
+    return completed(result, TimeUnit.NANOSECONDS.toMillis(duration));
+  }
+
+  private HealthCheckDto timedOut() {
+    return completed(
+        HealthCheckDto.down("Timed out after " + healthProperties.getTimeout() + " ms"),
+        healthProperties.getTimeout());
+  }
+
+  private static HealthCheckDto completed(HealthCheckDto result, long durationMs) {
+    result.setDurationMs(durationMs);
+    result.setCheckedAt(Instant.now().toString());
+    return result;
+  }
+
+  private boolean isStale() {
+    return System.currentTimeMillis() - lastRefresh > 3 * healthProperties.getInterval();
+  }
+
+  private static boolean isUp(HealthCheckDto result) {
+    return result != null && result.getStatus() == HealthStatus.UP;
+  }
+}
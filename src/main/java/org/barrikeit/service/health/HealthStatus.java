@@ -0,0 +1,8 @@
+package org.barrikeit.service.health;
+
+/** Status of the application or of one of its health checks. */
+public enum HealthStatus {
+  UP,
+  DOWN,
+  UNKNOWN
+}
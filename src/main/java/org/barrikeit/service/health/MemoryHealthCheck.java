@@ -0,0 +1,41 @@
+package org.barrikeit.service.health;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.service.dto.HealthCheckDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * <b>Memory Health Check</b>
+ *
+ * <p>Down when the heap in use exceeds {@code application.health.memory.max-heap-usage} of the
+ * maximum heap.
+ */
+@Component
+@AllArgsConstructor
+public class MemoryHealthCheck implements HealthCheck {
+
+  private static final long MB = 1024L * 1024L;
+
+  private final ApplicationProperties.HealthProperties healthProperties;
+
+  @Override
+  public String getName() {
+    return "memory";
+  }
+
+  @Override
+  public HealthCheckDto check() {
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+    double usage = (double) heap.getUsed() / max;
+    Map<String, Object> details =
+        Map.of("usedMb", heap.getUsed() / MB, "maxMb", max / MB, "usage", usage);
+    return usage <= healthProperties.getMaxHeapUsage()
+        ? HealthCheckDto.up(details)
+        : HealthCheckDto.down(details);
+  }
+}
@@ -0,0 +1,134 @@
+package org.barrikeit.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>CSV Row Reader</b>
+ *
+ * <p>Reads a UTF-8 CSV file as described in RFC 4180: values may be quoted with {@code "}, quoted
+ * values may contain delimiters, line breaks and doubled quotes. The delimiter is {@code ,} or
+ * {@code ;}, whichever appears more often in the header, as spreadsheets use one or the other
+ * depending on the locale.
+ */
+public class CsvRowReader implements RowReader {
+
+  private static final char QUOTE = '"';
+  private static final char BOM = '\uFEFF';
+
+  private final InputStream input;
+
+  public CsvRowReader(InputStream input) {
+    this.input = input;
+  }
+
+  @Override
+  public void read(RowHandler handler) throws IOException, InterruptedException {
+    Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    reader.mark(1);
+    if (reader.read() != BOM) {
+      reader.reset();
+    }
+    String headerLine = readLine(reader);
+    if (headerLine == null) {
+      return;
+    }
+    char delimiter = delimiter(headerLine);
+    handler.header(null, parseLine(headerLine, delimiter).toArray(String[]::new));
+
+    List<String> cells = new ArrayList<>();
+    long number = 1;
+    while (readRecord(reader, delimiter, cells)) {
+      number++;
+      if (cells.size() > 1 || !cells.get(0).isEmpty()) {
+        handler.row(null, number, cells.toArray(String[]::new));
+      }
+    }
+  }
+
+  private static String readLine(Reader reader) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int c;
+    while ((c = reader.read()) != -1 && c != '\n') {
+      if (c != '\r') {
+        line.append((char) c);
+      }
+    }
+    return c == -1 && line.isEmpty() ? null : line.toString();
+  }
+
+  private static char delimiter(String header) {
+    int commas = 0;
+    int semicolons = 0;
+    boolean quoted = false;
+    for (char c : header.toCharArray()) {
+      if (c == QUOTE) {
+        quoted = !quoted;
+      } else if (!quoted && c == ',') {
+        commas++;
+      } else if (!quoted && c == ';') {
+        semicolons++;
+      }
+    }
+    return semicolons > commas ? ';' : ',';
+  }
+
+  private static List<String> parseLine(String line, char delimiter) throws IOException {
+    List<String> cells = new ArrayList<>();
+    try (Reader reader = new StringReader(line)) {
+      readRecord(reader, delimiter, cells);
+    }
+    return cells;
+  }
+
+  /**
+   * Reads the next record, which may span several lines when a quoted value has line breaks.
+   *
+   * @return {@code false} at the end of the input.
+   */
+  private static boolean readRecord(Reader reader, char delimiter, List<String> cells)
+      throws IOException {
+    cells.clear();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    boolean read = false;
+    int c;
+    while ((c = reader.read()) != -1) {
+      read = true;
+      if (quoted) {
+        if (c == QUOTE) {
+          reader.mark(1);
+          if (reader.read() == QUOTE) {
+            value.append(QUOTE);
+          } else {
+            reader.reset();
+            quoted = false;
+          }
+        } else {
+          value.append((char) c);
+        }
+      } else if (c == QUOTE) {
+        quoted = true;
+      } else if (c == delimiter) {
+        cells.add(value.toString());
+        value.setLength(0);
+      } else if (c == '\n') {
+        break;
+      } else if (c != '\r') {
+        value.append((char) c);
+      }
+    }
+    if (!read) {
+      return false;
+    }
+    cells.add(value.toString());
+    return true;
+  }
+}
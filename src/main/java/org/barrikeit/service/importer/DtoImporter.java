@@ -0,0 +1,418 @@
+package org.barrikeit.service.importer;
+
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.service.GenericService;
+import org.barrikeit.service.dto.GenericDto;
+import org.barrikeit.service.dto.ImportErrorDto;
+import org.barrikeit.service.dto.ImportResultDto;
+import org.barrikeit.service.export.XlsxExporter;
+import org.barrikeit.util.FieldAccessor;
+import org.barrikeit.util.ReflectionUtil;
+import org.barrikeit.util.constants.EntityConstants;
+import org.barrikeit.util.constants.ExceptionConstants;
+import org.barrikeit.util.exceptions.BadRequestException;
+import org.barrikeit.util.exceptions.GenericException;
+import org.barrikeit.util.exceptions.ServiceUnavailableException;
+import org.barrikeit.util.exceptions.UnExpectedException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * <b>DTO Importer</b>
+ *
+ * <p>Loads the rows of an XLSX or CSV file into the entity of a {@link GenericService}. The import
+ * runs as three stages connected by bounded queues, so a slow stage makes the previous one wait
+ * instead of piling rows up in memory:
+ *
+ * <ol>
+ *   <li>A thread reads the file row by row with a {@link RowReader}.
+ *   <li>{@code application.import.workers} threads convert each row into a DTO, with {@link
+ *       ReflectionUtil#castFieldToType(Object, Class)}.
+ *   <li>The calling thread saves the DTOs in chunks of {@code spring.jpa.bulk.chunk-size} with
+ *       {@link GenericService#saveAll(java.util.Collection)}, one transaction per chunk. When a
+ *       chunk fails, its rows are saved one by one to find the rejected ones: those that break a
+ *       constraint of the entity or of the database.
+ * </ol>
+ *
+ * <p>The reader and the converters run on the shared {@code importExecutor}, which has the threads
+ * of {@code application.import.concurrent} imports; the imports past that number are refused with
+ * 503 until one ends.
+ *
+ * <p>The first row of every sheet must hold the names of the DTO fields; the {@code id} column is
+ * ignored, so an exported file can be imported as new rows. The rows that cannot be converted or
+ * saved are reported in the {@link ImportResultDto} and the rest are imported.
+ */
+@Log4j2
+@Component
+public class DtoImporter {
+
+  public static final String CSV_CONTENT_TYPE = "text/csv";
+
+  private static final MediaType CSV = MediaType.parseMediaType(CSV_CONTENT_TYPE);
+  private static final MediaType XLSX = MediaType.parseMediaType(XlsxExporter.CONTENT_TYPE);
+
+  private final ApplicationProperties.ImportProperties importProperties;
+  private final ApplicationProperties.DatabaseProperties databaseProperties;
+  private final Executor executor;
+  private final Semaphore imports;
+
+  public DtoImporter(
+      ApplicationProperties.ImportProperties importProperties,
+      ApplicationProperties.DatabaseProperties databaseProperties,
+      @Qualifier("importExecutor") Executor executor) {
+    this.importProperties = importProperties;
+    this.databaseProperties = databaseProperties;
+    this.executor = executor;
+    this.imports = new Semaphore(importProperties.getConcurrent());
+  }
+
+  /**
+   * Imports a file, choosing the reader by its content type. An XLSX file is copied to a temporary
+   * file first, as its parts can only be read with random access.
+   *
+   * @param service the service of the entity the rows are saved to.
+   * @param contentType the content type of the file, {@code text/csv} or the XLSX one.
+   * @param input the content of the file; it is not closed.
+   * @param <D> the DTO type that extends {@link GenericDto}.
+   * @return the result of the import.
+   * @throws IOException if the file cannot be copied.
+   * @throws BadRequestException if the content type is not supported or the file is not valid.
+   * @throws ServiceUnavailableException if {@code application.import.concurrent} imports are
+   *     running.
+   */
+  public <D extends GenericDto> ImportResultDto importFile(
+      GenericService<?, ?, D> service, String contentType, InputStream input) throws IOException {
+    MediaType mediaType;
+    try {
+      mediaType = MediaType.parseMediaType(contentType);
+    } catch (InvalidMediaTypeException e) {
+      throw new BadRequestException(ExceptionConstants.ERROR_IMPORT_TYPE, contentType);
+    }
+    if (!CSV.includes(mediaType) && !XLSX.includes(mediaType)) {
+      throw new BadRequestException(ExceptionConstants.ERROR_IMPORT_TYPE, contentType);
+    }
+    acquire();
+    try {
+      if (CSV.includes(mediaType)) {
+        return new Import<>(service, new CsvRowReader(input)).run();
+      }
+      Path file = Files.createTempFile("import-", XlsxExporter.EXTENSION);
+      try {
+        Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        return new Import<>(service, new XlsxRowReader(file.toFile())).run();
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    } finally {
+      imports.release();
+    }
+  }
+
+  /**
+   * Imports the rows of a reader.
+   *
+   * @param service the service of the entity the rows are saved to.
+   * @param reader the reader of the rows.
+   * @param <D> the DTO type that extends {@link GenericDto}.
+   * @return the result of the import.
+   * @throws BadRequestException if the file is not valid or has unknown columns. The chunks saved
+   *     before the error are kept.
+   * @throws ServiceUnavailableException if {@code application.import.concurrent} imports are
+   *     running.
+   */
+  public <D extends GenericDto> ImportResultDto importRows(
+      GenericService<?, ?, D> service, RowReader reader) {
+    acquire();
+    try {
+      return new Import<>(service, reader).run();
+    } finally {
+      imports.release();
+    }
+  }
+
+  /** Admits an import if the executor has room for its threads, without waiting. */
+  private void acquire() {
+    if (!imports.tryAcquire()) {
+      throw new ServiceUnavailableException(ExceptionConstants.ERROR_IMPORT_BUSY);
+    }
+  }
+
+  /** A row read from the file, with the fields of its columns. */
+  private record Row(
+      String sheet, long number, String[] names, FieldAccessor[] columns, String[] cells) {}
+
+  /** A row converted into its DTO. */
+  private record Converted<D>(String sheet, long number, D dto) {}
+
+  /** The state of a single import. */
+  private final class Import<D extends GenericDto> implements RowReader.RowHandler {
+    private final Row endOfRows = new Row(null, 0, null, null, null);
+    private final Converted<D> endOfConverted = new Converted<>(null, 0, null);
+
+    private final GenericService<?, ?, D> service;
+    private final RowReader reader;
+    private final int workers;
+    private final Constructor<D> dtoConstructor;
+    private final Map<String, FieldAccessor> accessors;
+    private final BlockingQueue<Row> rows;
+    private final BlockingQueue<Converted<D>> converted;
+
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger listedErrors = new AtomicInteger();
+    private final Queue<ImportErrorDto> errors = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private String[] names;
+    private FieldAccessor[] columns;
+
+    private Import(GenericService<?, ?, D> service, RowReader reader) {
+      this.service = service;
+      this.reader = reader;
+      this.workers = importProperties.workerThreads();
+      this.dtoConstructor = BeanUtils.getResolvableConstructor(service.getDtoClass());
+      this.accessors = ReflectionUtil.getAccessors(service.getDtoClass());
+      this.rows = new ArrayBlockingQueue<>(importProperties.getQueueCapacity());
+      this.converted = new ArrayBlockingQueue<>(importProperties.getQueueCapacity());
+    }
+
+    private ImportResultDto run() {
+      long start = System.nanoTime();
+      String name = service.getEntityClass().getSimpleName();
+      List<Future<?>> tasks = new ArrayList<>(workers + 1);
+      long imported;
+      try {
+        tasks.add(start(this::parse));
+        for (int i = 0; i < workers; i++) {
+          tasks.add(start(this::convert));
+        }
+        imported = write();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new UnExpectedException("Import of {} interrupted", name);
+      } finally {
+        tasks.forEach(task -> task.cancel(true));
+      }
+      rethrowFailure();
+
+      long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      log.info("***Imported {} of {} rows of {} in {} ms", imported, read.get(), name, duration);
+      List<ImportErrorDto> errorList = new ArrayList<>(errors);
+      errorList.sort(
+          Comparator.comparing(
+                  ImportErrorDto::getSheet, Comparator.nullsFirst(Comparator.naturalOrder()))
+              .thenComparingLong(ImportErrorDto::getRow));
+      return ImportResultDto.builder()
+          .rows(read.get())
+          .imported(imported)
+          .failed(failed.get())
+          .durationMs(duration)
+          .errors(errorList)
+          .build();
+    }
+
+    /** Runs a stage on the import executor; the stage is interrupted when it is cancelled. */
+    private Future<?> start(Runnable stage) {
+      FutureTask<?> task = new FutureTask<>(stage, null);
+      executor.execute(task);
+      return task;
+    }
+
+    private void rethrowFailure() {
+      Throwable cause = failure.get();
+      if (cause instanceof GenericException genericException) {
+        throw genericException;
+      }
+      if (cause != null) {
+        log.error("Import of {} failed: {}", service.getEntityClass().getSimpleName(), cause);
+        throw new BadRequestException(ExceptionConstants.ERROR_IMPORT_FILE, cause.getMessage());
+      }
+    }
+
+    /** First stage: reads the file and queues its rows. */
+    private void parse() {
+      try {
+        reader.read(this);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        failure.compareAndSet(null, e);
+      }
+      try {
+        for (int i = 0; i < workers; i++) {
+          rows.put(endOfRows);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void header(String sheet, String[] header) {
+      names = new String[header.length];
+      columns = new FieldAccessor[header.length];
+      for (int i = 0; i < header.length; i++) {
+        String column = header[i] == null ? "" : header[i].trim();
+        names[i] = column;
+        if (column.isEmpty() || EntityConstants.ID.equals(column)) {
+          continue;
+        }
+        FieldAccessor accessor = accessors.get(column);
+        if (accessor == null
+            || Modifier.isStatic(accessor.getField().getModifiers())
+            || !accessor.isWritable()) {
+          throw new BadRequestException(ExceptionConstants.ERROR_IMPORT_COLUMN, column);
+        }
+        columns[i] = accessor;
+      }
+    }
+
+    @Override
+    public void row(String sheet, long number, String[] cells) throws InterruptedException {
+      read.incrementAndGet();
+      rows.put(new Row(sheet, number, names, columns, cells));
+    }
+
+    /**
+     * Second stage: converts the rows into DTOs, on every worker. A worker always queues its end of
+     * rows, even when it fails, so the writer never waits for it.
+     */
+    private void convert() {
+      try {
+        try {
+          Row row;
+          while (failure.get() == null && (row = rows.take()) != endOfRows) {
+            D dto = toDto(row);
+            if (dto != null) {
+              converted.put(new Converted<>(row.sheet(), row.number(), dto));
+            }
+          }
+        } catch (RuntimeException e) {
+          failure.compareAndSet(null, e);
+        }
+        converted.put(endOfConverted);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private D toDto(Row row) {
+      D dto = BeanUtils.instantiateClass(dtoConstructor);
+      boolean valid = true;
+      for (int i = 0; i < Math.min(row.columns().length, row.cells().length); i++) {
+        FieldAccessor column = row.columns()[i];
+        String cell = row.cells()[i];
+        if (column == null || cell == null || cell.isEmpty()) {
+          continue;
+        }
+        try {
+          column.set(dto, ReflectionUtil.castFieldToType(cell, column.getType()));
+        } catch (GenericException e) {
+          reject(
+              row.sheet(),
+              row.number(),
+              row.names()[i],
+              "Invalid value " + cell + " for " + column.getType().getSimpleName(),
+              valid);
+          valid = false;
+        }
+      }
+      return valid ? dto : null;
+    }
+
+    /** Third stage: saves the converted rows in chunks, on the calling thread. */
+    private long write() throws InterruptedException {
+      int chunkSize = Math.max(1, databaseProperties.getBulkChunkSize());
+      List<Converted<D>> chunk = new ArrayList<>(chunkSize);
+      long imported = 0;
+      int finished = 0;
+      while (finished < workers) {
+        Converted<D> row = converted.take();
+        if (row == endOfConverted) {
+          finished++;
+        } else {
+          chunk.add(row);
+          if (chunk.size() == chunkSize) {
+            imported += save(chunk);
+          }
+        }
+      }
+      return imported + save(chunk);
+    }
+
+    private int save(List<Converted<D>> chunk) {
+      if (chunk.isEmpty()) {
+        return 0;
+      }
+      int saved = 0;
+      try {
+        service.saveAll(chunk.stream().map(Converted::dto).toList());
+        saved = chunk.size();
+      } catch (DataIntegrityViolationException
+          | ConstraintViolationException
+          | PersistenceException e) {
+        log.debug("Chunk rejected, saving its rows one by one: {}", e.getMessage());
+        for (Converted<D> row : chunk) {
+          try {
+            service.save(row.dto());
+            saved++;
+          } catch (DataIntegrityViolationException
+              | ConstraintViolationException
+              | PersistenceException e2) {
+            reject(
+                row.sheet(),
+                row.number(),
+                null,
+                NestedExceptionUtils.getMostSpecificCause(e2).getMessage(),
+                true);
+          }
+        }
+      }
+      chunk.clear();
+      return saved;
+    }
+
+    /** Records an error of a row. The row is counted as failed only on its first error. */
+    private void reject(String sheet, long row, String column, String message, boolean first) {
+      if (first) {
+        failed.incrementAndGet();
+      }
+      if (listedErrors.incrementAndGet() <= importProperties.getMaxErrors()) {
+        errors.add(
+            ImportErrorDto.builder().sheet(sheet).row(row).column(column).message(message).build());
+      }
+    }
+  }
+}
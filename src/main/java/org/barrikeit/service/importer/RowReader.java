@@ -0,0 +1,43 @@
+package org.barrikeit.service.importer;
+
+import java.io.IOException;
+
+/**
+ * <b>Row Reader Interface</b>
+ *
+ * <p>Reads the rows of a tabular file one at a time, without loading the whole file, and hands them
+ * to a {@link RowHandler}. The first row of every sheet is its header.
+ */
+public interface RowReader {
+
+  /**
+   * Reads every row of the file.
+   *
+   * @param handler the handler that receives the headers and the rows, in order.
+   * @throws IOException if the file cannot be read or is not valid.
+   * @throws InterruptedException if the thread is interrupted while the handler waits.
+   */
+  void read(RowHandler handler) throws IOException, InterruptedException;
+
+  /** Receives the rows of a {@link RowReader}. */
+  interface RowHandler {
+
+    /**
+     * Receives the header of a sheet, before its rows.
+     *
+     * @param sheet the name of the sheet, or {@code null} if the file has no sheets.
+     * @param names the names of the columns.
+     */
+    void header(String sheet, String[] names);
+
+    /**
+     * Receives a row of the current sheet. Empty rows are skipped.
+     *
+     * @param sheet the name of the sheet, or {@code null} if the file has no sheets.
+     * @param number the number of the row in its sheet, starting at 1 for the header.
+     * @param cells the values of the row by column; missing cells are {@code null}.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    void row(String sheet, long number, String[] cells) throws InterruptedException;
+  }
+}
@@ -0,0 +1,149 @@
+package org.barrikeit.service.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.barrikeit.util.TimeUtil;
+import org.barrikeit.util.constants.UtilConstants;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * <b>XLSX Row Reader</b>
+ *
+ * <p>Reads every sheet of an XLSX file with the event model of POI: the XML of each sheet is parsed
+ * with SAX and its cells are received one by one, so no workbook is built in memory. Only the
+ * shared strings table and the styles are loaded.
+ *
+ * <p>Cells are read as text. Dates are written with the patterns of {@link UtilConstants} ({@code
+ * PATTERN_LOCAL_DATE} or {@code PATTERN_DATE_TIME} when they have time), and numbers in plain
+ * notation regardless of the format of the cell, so they can be converted back to the type of the
+ * fields.
+ */
+public class XlsxRowReader implements RowReader {
+
+  private final File file;
+
+  public XlsxRowReader(File file) {
+    this.file = file;
+  }
+
+  @Override
+  public void read(RowHandler handler) throws IOException, InterruptedException {
+    try (OPCPackage workbook = OPCPackage.open(file, PackageAccess.READ)) {
+      XSSFReader reader = new XSSFReader(workbook);
+      ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(workbook, false);
+      StylesTable styles = reader.getStylesTable();
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+      while (sheets.hasNext()) {
+        try (InputStream sheet = sheets.next()) {
+          XMLReader parser = XMLHelper.newXMLReader();
+          parser.setContentHandler(
+              new XSSFSheetXMLHandler(
+                  styles,
+                  null,
+                  strings,
+                  new SheetHandler(sheets.getSheetName(), handler),
+                  new RawValueFormatter(),
+                  false));
+          parser.parse(new InputSource(sheet));
+        }
+      }
+    } catch (InterruptedSheetException e) {
+      throw e.getCause();
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /** Groups the cells of each row and hands the rows to the {@link RowHandler}. */
+  private static final class SheetHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+    private final String sheet;
+    private final RowHandler handler;
+    private final List<String> cells = new ArrayList<>();
+    private boolean header = true;
+    private boolean empty;
+
+    private SheetHandler(String sheet, RowHandler handler) {
+      this.sheet = sheet;
+      this.handler = handler;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+      cells.clear();
+      empty = true;
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      int column = new CellReference(cellReference).getCol();
+      while (cells.size() <= column) {
+        cells.add(null);
+      }
+      cells.set(column, formattedValue);
+      empty &= formattedValue == null || formattedValue.isEmpty();
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      if (header) {
+        header = false;
+        handler.header(sheet, cells.toArray(String[]::new));
+      } else if (!empty) {
+        try {
+          handler.row(sheet, rowNum + 1L, cells.toArray(String[]::new));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedSheetException(e);
+        }
+      }
+    }
+  }
+
+  /** Formats the numeric cells by their value instead of by the format of the cell. */
+  private static final class RawValueFormatter extends DataFormatter {
+    @Override
+    public String formatRawCellContents(double value, int formatIndex, String formatString) {
+      if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+        LocalDateTime dateTime = DateUtil.getLocalDateTime(value);
+        return value == Math.floor(value)
+            ? dateTime.format(TimeUtil.LOCAL_DATE_FORMATTER)
+            : dateTime.format(TimeUtil.DATE_TIME_FORMATTER);
+      }
+      return value == Math.rint(value) && Math.abs(value) < 1e15
+          ? Long.toString((long) value)
+          : BigDecimal.valueOf(value).toPlainString();
+    }
+  }
+
+  /** Carries an interruption through the SAX parser, which only lets runtime exceptions out. */
+  private static final class InterruptedSheetException extends RuntimeException {
+    private InterruptedSheetException(InterruptedException cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized InterruptedException getCause() {
+      return (InterruptedException) super.getCause();
+    }
+  }
+}
@@ -2,12 +2,24 @@ package org.barrikeit.service.mapper;
 
 import org.barrikeit.model.domain.User;
 import org.barrikeit.service.dto.UserDto;
+import org.barrikeit.util.constants.EntityConstants;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(
     componentModel = "spring",
     injectionStrategy = InjectionStrategy.CONSTRUCTOR,
     unmappedTargetPolicy = ReportingPolicy.IGNORE)
-public interface UserMapper extends GenericMapper<User, UserDto> {}
+public interface UserMapper extends GenericMapper<User, UserDto> {
+
+  @Override
+  @Mapping(target = EntityConstants.VERSION, ignore = true)
+  User toEntity(UserDto source);
+
+  @Override
+  @Mapping(target = EntityConstants.VERSION, ignore = true)
+  void updateEntity(UserDto source, @MappingTarget User target);
+}
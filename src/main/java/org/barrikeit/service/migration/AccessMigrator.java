@@ -0,0 +1,381 @@
+package org.barrikeit.service.migration;
+
+import com.healthmarketscience.jackcess.Column;
+import com.healthmarketscience.jackcess.Cursor;
+import com.healthmarketscience.jackcess.CursorBuilder;
+import com.healthmarketscience.jackcess.Database;
+import com.healthmarketscience.jackcess.DatabaseBuilder;
+import com.healthmarketscience.jackcess.DateTimeType;
+import com.healthmarketscience.jackcess.Row;
+import com.healthmarketscience.jackcess.Table;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.barrikeit.application.ApplicationProperties;
+import org.barrikeit.model.domain.GenericEntity;
+import org.barrikeit.util.FieldAccessor;
+import org.barrikeit.util.ReflectionUtil;
+import org.barrikeit.util.constants.EntityConstants;
+import org.barrikeit.util.constants.ExceptionConstants;
+import org.barrikeit.util.exceptions.BadRequestException;
+import org.barrikeit.util.exceptions.GenericException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * <b>MS Access Migrator</b>
+ *
+ * <p>Copies the rows of a table of an MS Access file ({@code .accdb} or {@code .mdb}) into a {@link
+ * GenericEntity}. The file is opened read-only with Jackcess and scanned with a cursor, so only the
+ * rows of the current transaction are kept in memory.
+ *
+ * <ul>
+ *   <li>Each column is mapped to the entity field with the same name, ignoring case, spaces,
+ *       underscores and dashes, unless it is mapped explicitly. The {@code id} is generated by the
+ *       database and the unmapped columns are ignored. The field accessors are resolved once with
+ *       {@link ReflectionUtil#getAccessors(Class)}.
+ *   <li>Every {@code application.migration.commit-interval} source rows are persisted in one
+ *       transaction, flushed in JDBC batches of {@code spring.jpa.bulk.chunk-size} rows.
+ *   <li>After every commit a {@link MigrationCheckpoint} saves the rows read, so running the same
+ *       migration again resumes after the last committed row.
+ *   <li>The rows whose values cannot be converted to the type of their field, or that break a
+ *       constraint of the database, are skipped and logged. Any other database error stops the
+ *       migration, keeping the last checkpoint.
+ * </ul>
+ */
+@Log4j2
+@Component
+public class AccessMigrator {
+
+  private static final String CHECKPOINT_EXTENSION = ".checkpoint";
+
+  private final ApplicationProperties.MigrationProperties migrationProperties;
+  private final ApplicationProperties.DatabaseProperties databaseProperties;
+  private final TransactionTemplate transactionTemplate;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  public AccessMigrator(
+      ApplicationProperties.MigrationProperties migrationProperties,
+      ApplicationProperties.DatabaseProperties databaseProperties,
+      PlatformTransactionManager transactionManager) {
+    this.migrationProperties = migrationProperties;
+    this.databaseProperties = databaseProperties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Migrates a table of an MS Access file into an entity, resuming from its checkpoint.
+   *
+   * @param file the MS Access file.
+   * @param tableName the name of the table to migrate.
+   * @param entityClass the entity the rows are persisted as.
+   * @param columnMapping the field of the columns whose name differs from the field name.
+   * @param restart whether to ignore the checkpoint and migrate the whole table again.
+   * @param <E> the entity type that extends {@link GenericEntity}.
+   * @return the result of the migration, counting the rows of the previous runs.
+   * @throws IOException if the file cannot be read or the checkpoint cannot be written.
+   * @throws BadRequestException if the table does not exist, the mapping is not valid or the
+   *     checkpoint belongs to another version of the file.
+   */
+  public <E extends GenericEntity<?>> MigrationResult migrate(
+      File file,
+      String tableName,
+      Class<E> entityClass,
+      Map<String, String> columnMapping,
+      boolean restart)
+      throws IOException {
+    Path checkpointPath = checkpointPath(file, tableName, entityClass);
+    String source =
+        file.getAbsolutePath()
+            + "|"
+            + tableName
+            + "|"
+            + entityClass.getName()
+            + "|"
+            + file.length()
+            + "|"
+            + file.lastModified();
+    MigrationCheckpoint checkpoint =
+        restart
+            ? MigrationCheckpoint.restart(checkpointPath, source)
+            : MigrationCheckpoint.load(checkpointPath, source);
+    if (checkpoint.isCompleted()) {
+      log.info("***{} was already migrated into {}", tableName, entityClass.getSimpleName());
+      return new MigrationResult(
+          checkpoint.getRows(), checkpoint.getMigrated(), checkpoint.getSkipped(), 0);
+    }
+
+    try (Database database = new DatabaseBuilder(file).setReadOnly(true).open()) {
+      database.setDateTimeType(DateTimeType.LOCAL_DATE_TIME);
+      Table table = database.getTable(tableName);
+      if (table == null) {
+        throw new BadRequestException(
+            ExceptionConstants.ERROR_MIGRATION_TABLE, tableName, file.getName());
+      }
+      return new Migration<>(table, entityClass, mapColumns(table, entityClass, columnMapping))
+          .run(checkpoint);
+    }
+  }
+
+  private Path checkpointPath(File file, String tableName, Class<?> entityClass) {
+    String name =
+        file.getName() + "." + tableName + "." + entityClass.getSimpleName() + CHECKPOINT_EXTENSION;
+    String directory = migrationProperties.getCheckpointDirectory();
+    return directory == null || directory.isBlank()
+        ? file.getAbsoluteFile().toPath().resolveSibling(name)
+        : Path.of(directory).resolve(name);
+  }
+
+  /** Resolves the field of every column, in the order of the table. */
+  private static Map<String, FieldAccessor> mapColumns(
+      Table table, Class<?> entityClass, Map<String, String> columnMapping) {
+    Map<String, FieldAccessor> fields = new HashMap<>();
+    ReflectionUtil.getAccessors(entityClass)
+        .forEach(
+            (name, accessor) -> {
+              if (!EntityConstants.ID.equals(name)
+                  && accessor.isWritable()
+                  && !Modifier.isStatic(accessor.getField().getModifiers())) {
+                fields.put(normalize(name), accessor);
+              }
+            });
+
+    Map<String, FieldAccessor> columns = new LinkedHashMap<>();
+    for (Column column : table.getColumns()) {
+      String field = columnMapping.get(column.getName());
+      FieldAccessor accessor = fields.get(normalize(field != null ? field : column.getName()));
+      if (accessor != null) {
+        columns.put(column.getName(), accessor);
+      } else if (field != null) {
+        throw new BadRequestException(
+            ExceptionConstants.ERROR_MIGRATION_FIELD, field, entityClass.getSimpleName());
+      } else {
+        log.warn(
+            "Column {} has no field in {}, ignoring it",
+            column.getName(),
+            entityClass.getSimpleName());
+      }
+    }
+    if (columns.isEmpty()) {
+      throw new BadRequestException(
+          ExceptionConstants.ERROR_MIGRATION_COLUMNS, table.getName(), entityClass.getSimpleName());
+    }
+    return columns;
+  }
+
+  private static String normalize(String name) {
+    return name.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Converts a value read by Jackcess to the type of its field. The numbers are converted without
+   * losing precision, the rest with {@link ReflectionUtil#castFieldToType(Object, Class)}.
+   */
+  private static Object convert(Object value, Class<?> type) {
+    if (value == null || type.isInstance(value)) {
+      return value;
+    }
+    if (value instanceof Number number) {
+      BigDecimal decimal = new BigDecimal(number.toString());
+      if (type == Integer.class || type == int.class) {
+        return decimal.intValueExact();
+      } else if (type == Long.class || type == long.class) {
+        return decimal.longValueExact();
+      } else if (type == Short.class || type == short.class) {
+        return decimal.shortValueExact();
+      } else if (type == Double.class || type == double.class) {
+        return number.doubleValue();
+      } else if (type == Float.class || type == float.class) {
+        return number.floatValue();
+      } else if (type == BigDecimal.class) {
+        return decimal;
+      } else if (type == BigInteger.class) {
+        return decimal.toBigIntegerExact();
+      }
+    }
+    return ReflectionUtil.castFieldToType(value, type);
+  }
+
+  private static long rate(long rows, long millis) {
+    return millis == 0 ? rows : rows * 1000 / millis;
+  }
+
+  /**
+   * The result of a migration.
+   *
+   * @param rows the source rows read.
+   * @param migrated the rows written to the database.
+   * @param skipped the rows that could not be converted or were rejected by the database.
+   * @param durationMs the duration of this run.
+   */
+  public record MigrationResult(long rows, long migrated, long skipped, long durationMs) {}
+
+  /** A converted row waiting to be persisted. */
+  private record Pending<E>(long number, E entity) {}
+
+  /** The state of a single run of a migration. */
+  private final class Migration<E extends GenericEntity<?>> {
+    private final Table table;
+    private final Constructor<E> constructor;
+    private final List<String> columnNames;
+    private final FieldAccessor[] accessors;
+    private final String name;
+
+    private long migrated;
+    private long skipped;
+
+    private Migration(Table table, Class<E> entityClass, Map<String, FieldAccessor> columns) {
+      this.table = table;
+      this.constructor = BeanUtils.getResolvableConstructor(entityClass);
+      this.columnNames = List.copyOf(columns.keySet());
+      this.accessors = columns.values().toArray(FieldAccessor[]::new);
+      this.name = table.getName() + " into " + entityClass.getSimpleName();
+    }
+
+    private MigrationResult run(MigrationCheckpoint checkpoint) throws IOException {
+      long start = System.nanoTime();
+      long resumed = checkpoint.getRows();
+      long rows = resumed;
+      migrated = checkpoint.getMigrated();
+      skipped = checkpoint.getSkipped();
+      int commitInterval = Math.max(1, migrationProperties.getCommitInterval());
+
+      Cursor cursor = CursorBuilder.createCursor(table);
+      for (long i = 0; i < resumed; i++) {
+        cursor.moveToNextRow();
+      }
+      log.info(
+          "***Migrating {} rows of {}, resuming after row {}", table.getRowCount(), name, resumed);
+
+      List<Pending<E>> batch = new ArrayList<>(commitInterval);
+      Row row;
+      while ((row = cursor.getNextRow(columnNames)) != null) {
+        rows++;
+        E entity = toEntity(row, rows);
+        if (entity != null) {
+          batch.add(new Pending<>(rows, entity));
+        } else {
+          skipped++;
+        }
+        if ((rows - resumed) % commitInterval == 0) {
+          persist(batch);
+          checkpoint.save(rows, migrated, skipped, false);
+          logProgress(rows, resumed, start);
+        }
+      }
+      persist(batch);
+      checkpoint.save(rows, migrated, skipped, true);
+
+      long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      log.info(
+          "***Migrated {} of {} rows of {} in {} ms ({} rows/s), {} skipped",
+          migrated,
+          rows,
+          name,
+          duration,
+          rate(rows - resumed, duration),
+          skipped);
+      return new MigrationResult(rows, migrated, skipped, duration);
+    }
+
+    private E toEntity(Row row, long number) {
+      E entity = BeanUtils.instantiateClass(constructor);
+      for (int i = 0; i < accessors.length; i++) {
+        Object value = row.get(columnNames.get(i));
+        try {
+          accessors[i].set(entity, convert(value, accessors[i].getType()));
+        } catch (GenericException | ArithmeticException | NumberFormatException e) {
+          log.warn(
+              "Skipping row {} of {}: invalid value {} for {}",
+              number,
+              name,
+              value,
+              columnNames.get(i));
+          return null;
+        }
+      }
+      return entity;
+    }
+
+    /**
+     * Persists a batch in one transaction, flushing it in JDBC batches of the chunk size. When the
+     * database rejects a row, the transaction is rolled back and the rows of the batch are
+     * persisted one by one to skip the rejected ones.
+     */
+    private void persist(List<Pending<E>> batch) {
+      if (batch.isEmpty()) {
+        return;
+      }
+      int chunkSize = Math.max(1, databaseProperties.getBulkChunkSize());
+      try {
+        transactionTemplate.executeWithoutResult(
+            status -> {
+              for (int i = 0; i < batch.size(); i++) {
+                entityManager.persist(batch.get(i).entity());
+                if ((i + 1) % chunkSize == 0) {
+                  entityManager.flush();
+                  entityManager.clear();
+                }
+              }
+            });
+        migrated += batch.size();
+      } catch (DataIntegrityViolationException
+          | ConstraintViolationException
+          | DataException
+          | jakarta.validation.ConstraintViolationException e) {
+        log.warn("Batch of {} rejected, persisting its rows one by one", name);
+        batch.forEach(this::persist);
+      }
+      batch.clear();
+    }
+
+    private void persist(Pending<E> pending) {
+      pending.entity().setId(null);
+      try {
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(pending.entity()));
+        migrated++;
+      } catch (DataIntegrityViolationException
+          | ConstraintViolationException
+          | DataException
+          | jakarta.validation.ConstraintViolationException e) {
+        log.warn(
+            "Skipping row {} of {}: {}",
+            pending.number(),
+            name,
+            NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        skipped++;
+      }
+    }
+
+    private void logProgress(long rows, long resumed, long start) {
+      long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      log.info(
+          "***Read {} of {} rows of {} ({} rows/s)",
+          rows,
+          table.getRowCount(),
+          name,
+          rate(rows - resumed, elapsed));
+    }
+  }
+}
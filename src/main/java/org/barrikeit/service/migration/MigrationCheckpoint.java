@@ -0,0 +1,112 @@
+package org.barrikeit.service.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import lombok.Getter;
+import org.barrikeit.util.constants.ExceptionConstants;
+import org.barrikeit.util.exceptions.BadRequestException;
+
+/**
+ * <b>Migration Checkpoint</b>
+ *
+ * <p>The position of a migration, saved after every committed transaction so an interrupted
+ * migration resumes after the last committed row instead of starting again. The position is the
+ * number of source rows already read in the order of a table scan, which does not change while the
+ * file is not modified; the size and the modification time of the file are saved with it, and a
+ * checkpoint of another version of the file is refused.
+ *
+ * <p>Every save writes a temporary file and moves it over the previous one, so a crash while saving
+ * never leaves a truncated checkpoint.
+ */
+@Getter
+public class MigrationCheckpoint {
+
+  private static final String SOURCE = "source";
+  private static final String ROWS = "rows";
+  private static final String MIGRATED = "migrated";
+  private static final String SKIPPED = "skipped";
+  private static final String COMPLETED = "completed";
+
+  private final Path path;
+  private final String source;
+  private long rows;
+  private long migrated;
+  private long skipped;
+  private boolean completed;
+
+  private MigrationCheckpoint(Path path, String source) {
+    this.path = path;
+    this.source = source;
+  }
+
+  /**
+   * Loads the checkpoint of a source, or starts a new one if it does not exist.
+   *
+   * @param path the checkpoint file.
+   * @param source the identifier of the migrated file, table and version.
+   * @return the loaded checkpoint.
+   * @throws IOException if the checkpoint exists but cannot be read.
+   * @throws BadRequestException if the checkpoint belongs to another source.
+   */
+  public static MigrationCheckpoint load(Path path, String source) throws IOException {
+    MigrationCheckpoint checkpoint = new MigrationCheckpoint(path, source);
+    if (!Files.exists(path)) {
+      return checkpoint;
+    }
+    Properties properties = new Properties();
+    try (InputStream input = Files.newInputStream(path)) {
+      properties.load(input);
+    }
+    if (!source.equals(properties.getProperty(SOURCE))) {
+      throw new BadRequestException(ExceptionConstants.ERROR_MIGRATION_CHECKPOINT, path);
+    }
+    checkpoint.rows = Long.parseLong(properties.getProperty(ROWS, "0"));
+    checkpoint.migrated = Long.parseLong(properties.getProperty(MIGRATED, "0"));
+    checkpoint.skipped = Long.parseLong(properties.getProperty(SKIPPED, "0"));
+    checkpoint.completed = Boolean.parseBoolean(properties.getProperty(COMPLETED));
+    return checkpoint;
+  }
+
+  /**
+   * Starts a new checkpoint of a source, ignoring the saved one.
+   *
+   * @param path the checkpoint file.
+   * @param source the identifier of the migrated file, table and version.
+   * @return the new checkpoint.
+   */
+  public static MigrationCheckpoint restart(Path path, String source) {
+    return new MigrationCheckpoint(path, source);
+  }
+
+  /**
+   * Saves the position of the migration.
+   *
+   * @param rows the source rows read, counting the skipped ones.
+   * @param migrated the rows written to the database.
+   * @param skipped the rows that could not be converted or were rejected by the database.
+   * @param completed whether the whole table has been read.
+   * @throws IOException if the checkpoint cannot be written.
+   */
+  public void save(long rows, long migrated, long skipped, boolean completed) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(SOURCE, source);
+    properties.setProperty(ROWS, String.valueOf(rows));
+    properties.setProperty(MIGRATED, String.valueOf(migrated));
+    properties.setProperty(SKIPPED, String.valueOf(skipped));
+    properties.setProperty(COMPLETED, String.valueOf(completed));
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (OutputStream output = Files.newOutputStream(temp)) {
+      properties.store(output, null);
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    this.rows = rows;
+    this.migrated = migrated;
+    this.skipped = skipped;
+    this.completed = completed;
+  }
+}
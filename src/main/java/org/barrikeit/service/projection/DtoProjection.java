@@ -0,0 +1,256 @@
+package org.barrikeit.service.projection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.barrikeit.util.FieldAccessor;
+import org.barrikeit.util.ReflectionUtil;
+import org.barrikeit.util.constants.EntityConstants;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * <b>DTO Projection Class</b>
+ *
+ * <p>Reads DTOs straight from the database, selecting only the columns of the DTO fields instead of
+ * the whole entity. The rows are never hydrated as entities, so they are not added to the
+ * persistence context, have no dirty-checking snapshot and are not copied again by the mapper.
+ *
+ * <p>Every field of the DTO must have an entity attribute with the same name and a compatible type;
+ * the attributes and the DTO setters are resolved once, when the projection is created. Custom
+ * conversions of the mapper are not applied, so it only fits DTOs that copy the entity as is.
+ *
+ * @param <E> the entity type.
+ * @param <D> the DTO type.
+ */
+public final class DtoProjection<E, D> {
+
+  private static final String ALIAS = "e";
+
+  private final Class<E> entityClass;
+  private final String selectQuery;
+  private final Constructor<D> dtoConstructor;
+  private final String[] attributes;
+  private final FieldAccessor[] setters;
+  private final FieldAccessor idAccessor;
+
+  private DtoProjection(
+      Class<E> entityClass,
+      Constructor<D> dtoConstructor,
+      String[] attributes,
+      FieldAccessor[] setters,
+      FieldAccessor idAccessor) {
+    this.entityClass = entityClass;
+    this.selectQuery =
+        "select "
+            + ALIAS
+            + "."
+            + String.join(", " + ALIAS + ".", attributes)
+            + " from "
+            + entityClass.getName()
+            + " "
+            + ALIAS;
+    this.dtoConstructor = dtoConstructor;
+    this.attributes = attributes;
+    this.setters = setters;
+    this.idAccessor = idAccessor;
+  }
+
+  /**
+   * Creates the projection of an entity into a DTO, matching the fields by name.
+   *
+   * @param entityClass the entity read.
+   * @param dtoClass the DTO built from every row.
+   * @param <E> the entity type.
+   * @param <D> the DTO type.
+   * @return the projection.
+   * @throws IllegalStateException if a field of the DTO has no matching entity attribute, or the
+   *     DTO has no constructor without arguments.
+   */
+  public static <E, D> DtoProjection<E, D> of(Class<E> entityClass, Class<D> dtoClass) {
+    Map<String, Field> entityFields = ReflectionUtil.getNestedFields(entityClass, null);
+    List<String> attributes = new ArrayList<>();
+    List<FieldAccessor> setters = new ArrayList<>();
+    FieldAccessor idAccessor = null;
+    for (FieldAccessor accessor : ReflectionUtil.getAccessors(dtoClass).values()) {
+      if (Modifier.isStatic(accessor.getField().getModifiers())) {
+        continue;
+      }
+      Field entityField = entityFields.get(accessor.getName());
+      if (entityField == null
+          || !accessor.isWritable()
+          || !ClassUtils.isAssignable(
+              accessor.getType(), ResolvableType.forField(entityField, entityClass).resolve())) {
+        throw new IllegalStateException(
+            "Cannot project "
+                + entityClass.getSimpleName()
+                + " into "
+                + dtoClass.getSimpleName()
+                + ": no attribute matches the field "
+                + accessor.getName());
+      }
+      attributes.add(accessor.getName());
+      setters.add(accessor);
+      if (EntityConstants.ID.equals(accessor.getName())) {
+        idAccessor = accessor;
+      }
+    }
+    try {
+      return new DtoProjection<>(
+          entityClass,
+          dtoClass.getDeclaredConstructor(),
+          attributes.toArray(String[]::new),
+          setters.toArray(FieldAccessor[]::new),
+          idAccessor);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(
+          "Cannot project into " + dtoClass.getSimpleName() + ": no default constructor", e);
+    }
+  }
+
+  /**
+   * Reads the DTO of an entity by its identifier.
+   *
+   * <p>The query is a constant JPQL string, so Hibernate interprets it once and takes it from its
+   * query plan cache afterwards.
+   *
+   * @param entityManager the entity manager that runs the query.
+   * @param id the identifier of the entity.
+   * @return the DTO, or {@code null} if there is no entity with that identifier.
+   */
+  public D find(EntityManager entityManager, Object id) {
+    List<Object[]> rows =
+        entityManager
+            .createQuery(
+                selectQuery + " where " + ALIAS + "." + EntityConstants.ID + " = :id",
+                Object[].class)
+            .setParameter(EntityConstants.ID, id)
+            .getResultList();
+    return rows.isEmpty() ? null : toDto(rows.get(0));
+  }
+
+  /**
+   * Reads the DTOs of the entities with the given identifiers, with a single {@code in} query.
+   *
+   * @param entityManager the entity manager that runs the query.
+   * @param ids the identifiers of the entities.
+   * @return the DTOs of the entities found, in no particular order.
+   */
+  public List<D> findAll(EntityManager entityManager, Collection<?> ids) {
+    return toDtos(
+        entityManager
+            .createQuery(
+                selectQuery + " where " + ALIAS + "." + EntityConstants.ID + " in :ids",
+                Object[].class)
+            .setParameter("ids", ids)
+            .getResultList());
+  }
+
+  /**
+   * Reads the DTOs of all the entities.
+   *
+   * @param entityManager the entity manager that runs the query.
+   * @param sort the order of the rows.
+   * @return the DTOs, in the order of the rows.
+   */
+  public List<D> list(EntityManager entityManager, Sort sort) {
+    return toDtos(
+        entityManager
+            .createQuery(QueryUtils.applySorting(selectQuery, sort, ALIAS), Object[].class)
+            .getResultList());
+  }
+
+  /**
+   * Reads the DTOs of the entities that match a specification.
+   *
+   * <p>The query is built with the criteria API, as the specification is only known at runtime.
+   *
+   * @param entityManager the entity manager that runs the query.
+   * @param specification the filter of the rows, may be {@code null} to read them all.
+   * @param sort the order of the rows.
+   * @param offset the number of rows skipped.
+   * @param limit the maximum number of rows, or {@code 0} to read them all.
+   * @return the DTOs, in the order of the rows.
+   */
+  public List<D> list(
+      EntityManager entityManager,
+      Specification<E> specification,
+      Sort sort,
+      long offset,
+      int limit) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object[]> query = criteriaBuilder.createQuery(Object[].class);
+    Root<E> root = query.from(entityClass);
+    Selection<?>[] selections = new Selection<?>[attributes.length];
+    for (int i = 0; i < attributes.length; i++) {
+      selections[i] = root.get(attributes[i]);
+    }
+    query.multiselect(selections);
+    if (specification != null) {
+      Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+    }
+    query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+    TypedQuery<Object[]> typedQuery = entityManager.createQuery(query);
+    if (offset > 0) {
+      typedQuery.setFirstResult(Math.toIntExact(offset));
+    }
+    if (limit > 0) {
+      typedQuery.setMaxResults(limit);
+    }
+    return toDtos(typedQuery.getResultList());
+  }
+
+  /**
+   * Whether the DTO carries the identifier of the entity, so {@link #getId(Object)} can be used.
+   *
+   * @return {@code true} if the DTO has an {@code id} field.
+   */
+  public boolean hasId() {
+    return idAccessor != null;
+  }
+
+  /**
+   * Reads the identifier of a projected DTO.
+   *
+   * @param dto the DTO.
+   * @return the identifier, or {@code null} if the DTO has no {@code id} field.
+   */
+  public Object getId(D dto) {
+    return idAccessor == null ? null : idAccessor.get(dto);
+  }
+
+  private List<D> toDtos(List<Object[]> rows) {
+    List<D> dtos = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      dtos.add(toDto(row));
+    }
+    return dtos;
+  }
+
+  private D toDto(Object[] row) {
+    D dto = BeanUtils.instantiateClass(dtoConstructor);
+    for (int i = 0; i < setters.length; i++) {
+      setters[i].set(dto, row[i]);
+    }
+    return dto;
+  }
+}
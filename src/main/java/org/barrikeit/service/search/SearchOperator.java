@@ -0,0 +1,44 @@
+package org.barrikeit.service.search;
+
+/**
+ * <b>Search Operator Enum</b>
+ *
+ * <p>The comparison applied by a search filter, written as the prefix of its value: {@code
+ * field=op:value}. A value without a known prefix is compared with {@link #EQ}, so values that
+ * contain the separator themselves, such as times, can still be searched.
+ */
+public enum SearchOperator {
+  EQ,
+  NE,
+  GT,
+  GE,
+  LT,
+  LE,
+  /** Matches a pattern where {@code *} stands for any characters, such as {@code like:john*}. */
+  LIKE,
+  /** Same as {@link #LIKE}, ignoring the case. It cannot use a plain index on the column. */
+  ILIKE,
+  /** Matches any of the comma separated values, such as {@code in:1,2,3}. */
+  IN,
+  /** Matches the null values; the value after the prefix is ignored. */
+  NULL,
+  /** Matches the non-null values; the value after the prefix is ignored. */
+  NOTNULL;
+
+  static final char SEPARATOR = ':';
+
+  /**
+   * Resolves an operator from the prefix of a filter value.
+   *
+   * @param prefix the text before the separator, in any case.
+   * @return the operator, or {@code null} if the prefix is not an operator.
+   */
+  static SearchOperator find(String prefix) {
+    for (SearchOperator operator : values()) {
+      if (operator.name().equalsIgnoreCase(prefix)) {
+        return operator;
+      }
+    }
+    return null;
+  }
+}
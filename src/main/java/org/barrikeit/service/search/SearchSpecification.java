@@ -0,0 +1,223 @@
+package org.barrikeit.service.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.barrikeit.util.ReflectionUtil;
+import org.barrikeit.util.constants.EntityConstants;
+import org.barrikeit.util.constants.ExceptionConstants;
+import org.barrikeit.util.exceptions.BadRequestException;
+import org.barrikeit.util.exceptions.UnExpectedException;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * <b>Search Specification Class</b>
+ *
+ * <p>Translates the filters of a search request, given as {@code field=op:value} pairs, into a
+ * {@link Specification} whose criteria are all required. The filtering is done by the database in
+ * the {@code WHERE} clause of the query.
+ *
+ * <p>Field names are validated against the cached nested fields of the entity ({@link
+ * ReflectionUtil#getNestedFields(Class, String)}), so {@code parent.child} names filter by the
+ * fields of a related entity. Values are converted to the type of the attribute with {@link
+ * ReflectionUtil#castFieldToType(Object, Class)} when the query is built.
+ *
+ * @param <E> the entity type.
+ * @see SearchOperator
+ */
+public class SearchSpecification<E> implements Specification<E> {
+  @Serial private static final long serialVersionUID = 1L;
+
+  private static final char ESCAPE = '\\';
+  private static final String VALUES_SEPARATOR = ",";
+
+  private final List<Criterion> criteria;
+
+  private SearchSpecification(List<Criterion> criteria) {
+    this.criteria = criteria;
+  }
+
+  /**
+   * Builds the specification of the filters of a search.
+   *
+   * @param entityClass the entity searched.
+   * @param filters the values of every filtered field; a field with several values must match all
+   *     of them.
+   * @param <E> the entity type.
+   * @return the specification.
+   * @throws BadRequestException if a field does not belong to the entity.
+   */
+  public static <E> SearchSpecification<E> of(
+      Class<E> entityClass, Map<String, List<String>> filters) {
+    List<Criterion> criteria = new ArrayList<>();
+    filters.forEach(
+        (field, values) -> {
+          checkField(entityClass, field);
+          for (String value : values) {
+            criteria.add(Criterion.parse(field, value));
+          }
+        });
+    return new SearchSpecification<>(List.copyOf(criteria));
+  }
+
+  /**
+   * Builds the sort of a search from {@code field} or {@code field,direction} entries. The
+   * identifier is always added as the last criterion, so the pages are stable.
+   *
+   * @param entityClass the entity searched.
+   * @param sort the sort entries, may be {@code null}.
+   * @return the sort.
+   * @throws BadRequestException if a field does not belong to the entity or a direction is not
+   *     {@code asc} nor {@code desc}.
+   */
+  public static Sort sort(Class<?> entityClass, List<String> sort) {
+    List<Sort.Order> orders = new ArrayList<>();
+    boolean sortedById = false;
+    for (String entry : sort == null ? List.<String>of() : sort) {
+      String[] parts = entry.split(VALUES_SEPARATOR, 2);
+      String field = parts[0].trim();
+      checkField(entityClass, field);
+      Sort.Direction direction;
+      try {
+        direction =
+            parts.length > 1 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestException(ExceptionConstants.ERROR_SEARCH_VALUE, entry, "sort");
+      }
+      orders.add(new Sort.Order(direction, field));
+      sortedById |= EntityConstants.ID.equals(field);
+    }
+    if (!sortedById) {
+      orders.add(Sort.Order.asc(EntityConstants.ID));
+    }
+    return Sort.by(orders);
+  }
+
+  private static void checkField(Class<?> entityClass, String field) {
+    if (!ReflectionUtil.getNestedFields(entityClass, null).containsKey(field)) {
+      throw new BadRequestException(ExceptionConstants.ERROR_SEARCH_FIELD, field);
+    }
+  }
+
+  @Override
+  public Predicate toPredicate(
+      Root<E> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+    Predicate[] predicates = new Predicate[criteria.size()];
+    for (int i = 0; i < predicates.length; i++) {
+      predicates[i] = criteria.get(i).toPredicate(root, criteriaBuilder);
+    }
+    return criteriaBuilder.and(predicates);
+  }
+
+  /** A single filter: the comparison of a field with a value. */
+  private record Criterion(String field, SearchOperator operator, String value)
+      implements Serializable {
+
+    private static Criterion parse(String field, String filter) {
+      int separator = filter.indexOf(SearchOperator.SEPARATOR);
+      SearchOperator operator =
+          separator > 0 ? SearchOperator.find(filter.substring(0, separator)) : null;
+      return operator == null
+          ? new Criterion(field, SearchOperator.EQ, filter)
+          : new Criterion(field, operator, filter.substring(separator + 1));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate toPredicate(Root<?> root, CriteriaBuilder criteriaBuilder) {
+      Path<?> path = path(root);
+      return switch (operator) {
+        case EQ -> criteriaBuilder.equal(path, cast(path, value));
+        case NE -> criteriaBuilder.notEqual(path, cast(path, value));
+        case GT -> criteriaBuilder.greaterThan((Expression) path, comparable(path));
+        case GE -> criteriaBuilder.greaterThanOrEqualTo((Expression) path, comparable(path));
+        case LT -> criteriaBuilder.lessThan((Expression) path, comparable(path));
+        case LE -> criteriaBuilder.lessThanOrEqualTo((Expression) path, comparable(path));
+        case LIKE -> criteriaBuilder.like(path.as(String.class), pattern(value), ESCAPE);
+        case ILIKE ->
+            criteriaBuilder.like(
+                criteriaBuilder.lower(path.as(String.class)),
+                pattern(value.toLowerCase(Locale.ROOT)),
+                ESCAPE);
+        case IN -> {
+          CriteriaBuilder.In<Object> in = criteriaBuilder.in(path);
+          for (String element : value.split(VALUES_SEPARATOR)) {
+            in.value(cast(path, element.trim()));
+          }
+          yield in;
+        }
+        case NULL -> criteriaBuilder.isNull(path);
+        case NOTNULL -> criteriaBuilder.isNotNull(path);
+      };
+    }
+
+    private Path<?> path(Root<?> root) {
+      Path<?> path = root;
+      try {
+        for (String attribute : field.split("\\.")) {
+          path = path.get(attribute);
+        }
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestException(ExceptionConstants.ERROR_SEARCH_FIELD, field);
+      }
+      return path;
+    }
+
+    private Object cast(Path<?> path, String text) {
+      try {
+        return ReflectionUtil.castFieldToType(text, javaType(path));
+      } catch (UnExpectedException e) {
+        throw new BadRequestException(ExceptionConstants.ERROR_SEARCH_VALUE, text, field);
+      }
+    }
+
+    /**
+     * The type of the attribute. Attributes declared with a type variable, such as the identifier
+     * of {@code GenericEntity}, are resolved against the entity that owns them.
+     */
+    private static Class<?> javaType(Path<?> path) {
+      if (path.getModel() instanceof Attribute<?, ?> attribute
+          && attribute.getJavaMember() instanceof Field member) {
+        return ResolvableType.forField(member, path.getParentPath().getJavaType())
+            .resolve(path.getJavaType());
+      }
+      return path.getJavaType();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Comparable comparable(Path<?> path) {
+      if (cast(path, value) instanceof Comparable comparable) {
+        return comparable;
+      }
+      throw new BadRequestException(ExceptionConstants.ERROR_SEARCH_VALUE, value, field);
+    }
+
+    /** Escapes the SQL wildcards of the value and turns {@code *} into {@code %}. */
+    private static String pattern(String text) {
+      StringBuilder pattern = new StringBuilder(text.length());
+      for (char c : text.toCharArray()) {
+        if (c == '*') {
+          pattern.append('%');
+        } else {
+          if (c == '%' || c == '_' || c == ESCAPE) {
+            pattern.append(ESCAPE);
+          }
+          pattern.append(c);
+        }
+      }
+      return pattern.toString();
+    }
+  }
+}
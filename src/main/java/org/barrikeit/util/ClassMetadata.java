@@ -0,0 +1,72 @@
+package org.barrikeit.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metadatos de reflexión de una clase calculados una única vez y cacheados con un {@link
+ * ClassValue}: la lista aplanada de campos de la jerarquía y los {@link FieldAccessor} de cada uno.
+ *
+ * <p>{@link ClassValue} asocia el valor a la propia clase, por lo que la búsqueda no necesita
+ * sincronización y no impide que la clase sea descargada junto con su classloader.
+ */
+final class ClassMetadata {
+  private static final ClassValue<ClassMetadata> CACHE =
+      new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+          return new ClassMetadata(type);
+        }
+      };
+
+  private final Class<?> type;
+  private final List<Field> fields;
+  private final Map<String, FieldAccessor> accessors;
+  private volatile Map<String, Field> nestedFields;
+
+  private ClassMetadata(Class<?> type) {
+    this.type = type;
+    List<Field> allFields = new ArrayList<>();
+    Class<?> clazz = type;
+    while (clazz != null) {
+      allFields.addAll(List.of(clazz.getDeclaredFields()));
+      clazz = clazz.getSuperclass();
+    }
+    this.fields = Collections.unmodifiableList(allFields);
+
+    Map<String, FieldAccessor> accessorMap = new LinkedHashMap<>();
+    for (Field field : allFields) {
+      accessorMap.putIfAbsent(field.getName(), new FieldAccessor(type, field));
+    }
+    this.accessors = Collections.unmodifiableMap(accessorMap);
+  }
+
+  static ClassMetadata of(Class<?> type) {
+    return CACHE.get(type);
+  }
+
+  List<Field> fields() {
+    return fields;
+  }
+
+  FieldAccessor accessor(String fieldName) {
+    return accessors.get(fieldName);
+  }
+
+  Map<String, FieldAccessor> accessors() {
+    return accessors;
+  }
+
+  Map<String, Field> nestedFields() {
+    Map<String, Field> result = nestedFields;
+    if (result == null) {
+      result = Collections.unmodifiableMap(ReflectionUtil.computeNestedFields(type, null));
+      nestedFields = result;
+    }
+    return result;
+  }
+}
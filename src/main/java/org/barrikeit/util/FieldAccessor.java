@@ -0,0 +1,117 @@
+package org.barrikeit.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import org.barrikeit.util.constants.ExceptionConstants;
+import org.barrikeit.util.exceptions.FieldValueException;
+
+/**
+ * Acceso precalculado a un campo de una clase a través de su getter y su setter.
+ *
+ * <p>Los {@link MethodHandle} se resuelven una sola vez por clase y campo y se adaptan a la firma
+ * {@code (Object)Object} / {@code (Object,Object)void}, de modo que cada lectura o escritura es una
+ * llamada {@code invokeExact} sin construir nombres de métodos ni pasar por {@link
+ * Method#invoke(Object, Object...)}.
+ */
+public final class FieldAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Field field;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  FieldAccessor(Class<?> clazz, Field field) {
+    this.field = field;
+    String suffix = capitalize(field.getName());
+    Method getterMethod = ReflectionUtil.findMethod(clazz, "get" + suffix);
+    if (getterMethod == null && field.getType() == boolean.class) {
+      getterMethod = ReflectionUtil.findMethod(clazz, "is" + suffix);
+    }
+    this.getter = unreflect(getterMethod, GETTER_TYPE);
+    this.setter =
+        unreflect(ReflectionUtil.findMethod(clazz, "set" + suffix, field.getType()), SETTER_TYPE);
+  }
+
+  public Field getField() {
+    return field;
+  }
+
+  public String getName() {
+    return field.getName();
+  }
+
+  public Class<?> getType() {
+    return field.getType();
+  }
+
+  public boolean isReadable() {
+    return getter != null;
+  }
+
+  public boolean isWritable() {
+    return setter != null;
+  }
+
+  /**
+   * Obtiene el valor del campo de una instancia mediante su getter.
+   *
+   * @param instance La instancia de la cual se desea obtener el valor del campo.
+   * @return El valor del campo o `null` si el campo no tiene getter.
+   * @throws FieldValueException Si ocurre un error al invocar el getter.
+   */
+  public Object get(Object instance) {
+    if (getter == null) {
+      return null;
+    }
+    try {
+      return (Object) getter.invokeExact(instance);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new FieldValueException(
+          ExceptionConstants.ERROR_FIELD_GET_VALUE, field.getName(), instance);
+    }
+  }
+
+  /**
+   * Establece el valor del campo de una instancia mediante su setter.
+   *
+   * @param instance La instancia en la cual se desea establecer el valor del campo.
+   * @param value El valor a establecer, que debe ser asignable al tipo del campo.
+   * @throws FieldValueException Si ocurre un error al invocar el setter o el valor no es del tipo
+   *     del campo.
+   */
+  public void set(Object instance, Object value) {
+    if (setter == null) {
+      return;
+    }
+    try {
+      setter.invokeExact(instance, value);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new FieldValueException(
+          ExceptionConstants.ERROR_FIELD_SET_VALUE, field.getName(), instance);
+    }
+  }
+
+  private static MethodHandle unreflect(Method method, MethodType type) {
+    if (method == null || !method.trySetAccessible()) {
+      return null;
+    }
+    try {
+      return MethodHandles.lookup().unreflect(method).asType(type);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static String capitalize(String name) {
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+}
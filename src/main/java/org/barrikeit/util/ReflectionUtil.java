@@ -47,6 +47,9 @@ public class ReflectionUtil extends ReflectionUtils {
   /**
    * Obtiene el valor de un campo especificado de una instancia utilizando su método getter.
    *
+   * <p>El getter se toma del {@link FieldAccessor} cacheado de la clase; solo si el nombre no
+   * corresponde a ningún campo se busca el método por nombre en cada llamada.
+   *
    * @param instance La instancia de la cual se desea obtener el valor del campo.
    * @param fieldName El nombre del campo cuyo valor se desea obtener.
    * @return El valor del campo especificado o `null` si no se encuentra el método getter o si el
@@ -55,6 +58,10 @@ public class ReflectionUtil extends ReflectionUtils {
    *     valor.
    */
   public static Object getFieldValue(final Object instance, String fieldName) {
+    FieldAccessor accessor = getAccessor(instance.getClass(), fieldName);
+    if (accessor != null) {
+      return accessor.get(instance);
+    }
     Object value = null;
     try {
       String getterName = "get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
@@ -71,6 +78,9 @@ public class ReflectionUtil extends ReflectionUtils {
   /**
    * Establece un valor en un campo de una instancia utilizando su método setter.
    *
+   * <p>El setter se toma del {@link FieldAccessor} cacheado de la clase; solo si el nombre no
+   * corresponde a ningún campo se busca el método por nombre en cada llamada.
+   *
    * @param instance La instancia en la cual se desea establecer el valor del campo.
    * @param fieldName El nombre del campo al cual se le asignará el valor.
    * @param value El valor a establecer en el campo.
@@ -78,6 +88,11 @@ public class ReflectionUtil extends ReflectionUtils {
    *     valor.
    */
   public static void setFieldValue(final Object instance, String fieldName, Object value) {
+    FieldAccessor accessor = getAccessor(instance.getClass(), fieldName);
+    if (accessor != null) {
+      accessor.set(instance, value);
+      return;
+    }
     try {
       String setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
       Method setterMethod = findMethod(instance.getClass(), setterName, value.getClass());
@@ -89,6 +104,29 @@ public class ReflectionUtil extends ReflectionUtils {
     }
   }
 
+  /**
+   * Obtiene el {@link FieldAccessor} cacheado de un campo de una clase. Los accesores se calculan
+   * una sola vez por clase, por lo que conviene resolverlos fuera de los bucles y reutilizarlos.
+   *
+   * @param clazz Clase que declara o hereda el campo.
+   * @param fieldName El nombre del campo.
+   * @return El accesor del campo o `null` si la clase no tiene un campo con ese nombre.
+   */
+  public static FieldAccessor getAccessor(Class<?> clazz, String fieldName) {
+    return ClassMetadata.of(clazz).accessor(fieldName);
+  }
+
+  /**
+   * Obtiene los {@link FieldAccessor} cacheados de todos los campos de una clase, incluyendo los de
+   * sus superclases, en el mismo orden que {@link #getFields(Class)}.
+   *
+   * @param clazz Clase de la cual se obtienen los accesores.
+   * @return Un `Map` inmutable que asocia el nombre de cada campo con su accesor.
+   */
+  public static Map<String, FieldAccessor> getAccessors(Class<?> clazz) {
+    return ClassMetadata.of(clazz).accessors();
+  }
+
   /**
    * Obtiene la clase del tipo genérico parametrizado en el índice especificado de una clase
    * genérica.
@@ -106,18 +144,14 @@ public class ReflectionUtil extends ReflectionUtils {
   }
 
   /**
-   * Obtiene todos los campos declarados de una clase, incluyendo los campos de sus superclases.
+   * Obtiene todos los campos declarados de una clase, incluyendo los campos de sus superclases. La
+   * lista se calcula una sola vez por clase y se devuelve cacheada, por lo que es inmutable.
    *
    * @param clazz Clase de la cual se extraen los campos.
-   * @return Una lista con todos los campos declarados de la clase y sus superclases.
+   * @return Una lista inmutable con todos los campos declarados de la clase y sus superclases.
    */
   public static List<Field> getFields(Class<?> clazz) {
-    List<Field> fields = new ArrayList<>();
-    while (clazz != null) {
-      fields.addAll(List.of(clazz.getDeclaredFields()));
-      clazz = clazz.getSuperclass();
-    }
-    return fields;
+    return clazz == null ? List.of() : ClassMetadata.of(clazz).fields();
   }
 
   /**
@@ -140,6 +174,16 @@ public class ReflectionUtil extends ReflectionUtils {
 
   /**
    * Obtiene los campos anidados de una clase, reflejando la estructura jerárquica en los nombres.
+   * Sin campo padre, el resultado se calcula una sola vez por clase.
+   *
+   * <ul>
+   *   <li>Se recorre el tipo de cada campo, no la clase que lo declara: un campo cuyo tipo es una
+   *       entidad o un DTO se sustituye por los campos de ese tipo, y el resto (el {@code id}, un
+   *       {@code String}, una fecha...) se devuelve tal cual, sin descender a sus campos internos.
+   *   <li>Los campos estáticos se ignoran.
+   *   <li>Si una subclase oculta un campo de su superclase con el mismo nombre, se conserva el de
+   *       la subclase.
+   * </ul>
    *
    * @param clazz Clase de la cual se extraen los campos anidados.
    * @param fieldName Nombre del campo padre, usado recursivamente para construir nombres completos
@@ -148,18 +192,26 @@ public class ReflectionUtil extends ReflectionUtils {
    *     reflejan la estructura jerárquica como "campo1.campo2".
    */
   public static Map<String, Field> getNestedFields(Class<?> clazz, String fieldName) {
+    return fieldName == null
+        ? ClassMetadata.of(clazz).nestedFields()
+        : computeNestedFields(clazz, fieldName);
+  }
+
+  static Map<String, Field> computeNestedFields(Class<?> clazz, String fieldName) {
     return getFields(clazz).stream()
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
         .flatMap(
             field -> {
               String fullFieldName = buildFullFieldName(fieldName, field.getName());
-              if (GenericEntity.class.isAssignableFrom(field.getDeclaringClass())
-                  || GenericDto.class.isAssignableFrom(field.getDeclaringClass())) {
+              if (GenericEntity.class.isAssignableFrom(field.getType())
+                  || GenericDto.class.isAssignableFrom(field.getType())) {
                 return getNestedFields(field.getType(), fullFieldName).entrySet().stream();
               } else {
                 return Stream.of(Map.entry(fullFieldName, field));
               }
             })
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        .collect(
+            Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, hidden) -> first));
   }
 
   /**
@@ -217,8 +269,11 @@ public class ReflectionUtil extends ReflectionUtils {
    */
   public static List<Object> getListFieldValues(Object instance, List<Field> fields) {
     List<Object> values = new ArrayList<>();
+    ClassMetadata metadata = ClassMetadata.of(instance.getClass());
     for (Field field : fields) {
-      values.add(getFieldValue(instance, field.getName()));
+      FieldAccessor accessor = metadata.accessor(field.getName());
+      values.add(
+          accessor != null ? accessor.get(instance) : getFieldValue(instance, field.getName()));
     }
     return values;
   }
@@ -233,8 +288,13 @@ public class ReflectionUtil extends ReflectionUtils {
    */
   public static Map<String, Object> getMapFieldValues(Object instance, Map<String, Field> fields) {
     Map<String, Object> values = new HashMap<>();
+    ClassMetadata metadata = ClassMetadata.of(instance.getClass());
     for (Map.Entry<String, Field> entry : fields.entrySet()) {
-      values.put(entry.getKey(), getFieldValue(instance, entry.getValue().getName()));
+      String name = entry.getValue().getName();
+      FieldAccessor accessor = metadata.accessor(name);
+      values.put(
+          entry.getKey(),
+          accessor != null ? accessor.get(instance) : getFieldValue(instance, name));
     }
     return values;
   }
@@ -252,8 +312,8 @@ public class ReflectionUtil extends ReflectionUtils {
    * @return El valor convertido al tipo especificado, o `null` si el valor original es `null`.
    * @throws UnExpectedException Si ocurre un error en la conversión o si el tipo no es soportado.
    */
-  @SuppressWarnings("unchecked")
-  private <M> M castFieldToType(Object value, Class<M> targetType) {
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static <M> M castFieldToType(Object value, Class<M> targetType) {
     try {
       if (value == null) {
         return null;
@@ -277,6 +337,8 @@ public class ReflectionUtil extends ReflectionUtils {
       } else if (targetType.equals(LocalDateTime.class)) {
         if (value instanceof String string) return (M) convertLocalDateTime(string);
         if (value instanceof LocalDate date) return (M) date.atStartOfDay();
+      } else if (targetType.isEnum()) {
+        return (M) Enum.valueOf((Class<Enum>) targetType, value.toString());
       }
     } catch (Exception e) {
       throw new UnExpectedException(
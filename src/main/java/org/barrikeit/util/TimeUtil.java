@@ -3,68 +3,201 @@ package org.barrikeit.util;
 import java.sql.Timestamp;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Date;
 import org.barrikeit.util.constants.UtilConstants;
 import org.barrikeit.util.exceptions.UnExpectedException;
-import org.springframework.beans.factory.annotation.Value;
 
+/**
+ * Utilidades de fechas en la zona horaria de la aplicación ({@code server.timeZone}).
+ *
+ * <p>Los formateadores se compilan una sola vez y la zona se resuelve al configurarla, junto con su
+ * {@link Clock}, en lugar de en cada llamada. Las fechas de texto se analizan sin formateadores ni
+ * excepciones: el formato se elige por la longitud y los separadores del texto y los dígitos se
+ * leen en sus posiciones fijas, de modo que cada conversión solo crea la fecha resultante.
+ *
+ * <p>Formatos admitidos:
+ *
+ * <ul>
+ *   <li>{@code dd/MM/yyyy} ({@link UtilConstants#PATTERN_LOCAL_DATE}) e ISO {@code yyyy-MM-dd}.
+ *   <li>{@code dd/MM/yyyy HH:mm:ss} ({@link UtilConstants#PATTERN_DATE_TIME}) e ISO {@code
+ *       yyyy-MM-dd'T'HH:mm:ss} o {@code yyyy-MM-dd HH:mm:ss}.
+ * </ul>
+ *
+ * <p>Los valores se resuelven como los formateadores de {@link
+ * DateTimeFormatter#ofPattern(String)}: un día mayor que el último del mes se ajusta a ese último
+ * día y {@code 24:00:00} es la medianoche del día siguiente.
+ */
 public class TimeUtil {
   private TimeUtil() {
     throw new IllegalStateException("TimeUtil class");
   }
 
-  private static String zone;
+  public static final DateTimeFormatter LOCAL_DATE_FORMATTER =
+      DateTimeFormatter.ofPattern(UtilConstants.PATTERN_LOCAL_DATE);
+  public static final DateTimeFormatter DATE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern(UtilConstants.PATTERN_DATE_TIME);
 
-  @Value("${server.timeZone}")
-  public void setZoneStatic(String zone) {
-    TimeUtil.zone = zone;
+  private static final int DATE_LENGTH = 10;
+  private static final int DATE_TIME_LENGTH = 19;
+
+  private static volatile ZoneId zone = ZoneId.systemDefault();
+  private static volatile Clock clock = Clock.system(zone);
+
+  /**
+   * Establece la zona horaria de la aplicación. Se llama al cargar la propiedad {@code
+   * server.timeZone}; hasta entonces se usa la zona del sistema.
+   *
+   * @param zoneId El identificador de la zona, como {@code Europe/Madrid}.
+   */
+  public static void setZone(String zoneId) {
+    ZoneId id = ZoneId.of(zoneId);
+    zone = id;
+    clock = Clock.system(id);
+  }
+
+  public static ZoneId getZone() {
+    return zone;
+  }
+
+  public static Clock getClock() {
+    return clock;
   }
 
   public static Instant instantNow() {
-    return Instant.now().atZone(ZoneId.of(zone)).toInstant();
+    return clock.instant();
   }
 
   public static Date dateNow() {
-    return Date.from(instantNow());
+    return new Date(clock.millis());
   }
 
   public static LocalDate localDateNow() {
-    return instantNow().atZone(ZoneId.of(zone)).toLocalDate();
+    return LocalDate.now(clock);
   }
 
   public static LocalDateTime localDateTimeNow() {
-    return instantNow().atZone(ZoneId.of(zone)).toLocalDateTime();
+    return LocalDateTime.now(clock);
   }
 
   public static LocalDate convertLocalDate(String date) {
-    DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern(UtilConstants.PATTERN_LOCAL_DATE);
-    try {
-      return LocalDate.parse(date, dateFormat);
-    } catch (DateTimeParseException e) {
+    LocalDate localDate = parseLocalDate(date);
+    if (localDate == null) {
       throw new IllegalArgumentException("Formato de fecha y hora inválido: " + date);
     }
+    return localDate;
   }
 
   public static LocalDateTime convertLocalDateTime(String date) {
-    DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern(UtilConstants.PATTERN_LOCAL_DATE);
-    DateTimeFormatter dateTimeFormat = DateTimeFormatter.ofPattern(UtilConstants.PATTERN_DATE_TIME);
-    try {
-      return LocalDateTime.parse(date, dateTimeFormat);
-    } catch (DateTimeParseException e) {
-      try {
-        return LocalDateTime.of(LocalDate.parse(date, dateFormat), LocalTime.MIN);
-      } catch (DateTimeParseException ex) {
-        throw new UnExpectedException("Formato de fecha y hora inválido: " + date);
-      }
+    LocalDateTime localDateTime = parseLocalDateTime(date);
+    if (localDateTime == null) {
+      throw new UnExpectedException("Formato de fecha y hora inválido: " + date);
+    }
+    return localDateTime;
+  }
+
+  /**
+   * Analiza una fecha sin lanzar excepciones.
+   *
+   * @param text El texto de la fecha, en alguno de los formatos de fecha admitidos.
+   * @return La fecha o {@code null} si el texto no tiene un formato admitido o no es válido.
+   */
+  public static LocalDate parseLocalDate(CharSequence text) {
+    if (text == null || text.length() != DATE_LENGTH) {
+      return null;
     }
+    return date(text, false);
+  }
+
+  /**
+   * Analiza una fecha y hora sin lanzar excepciones. Una fecha sin hora se devuelve al inicio del
+   * día.
+   *
+   * @param text El texto de la fecha, en alguno de los formatos de fecha o de fecha y hora
+   *     admitidos.
+   * @return La fecha y hora o {@code null} si el texto no tiene un formato admitido o no es válido.
+   */
+  public static LocalDateTime parseLocalDateTime(CharSequence text) {
+    if (text == null) {
+      return null;
+    }
+    if (text.length() == DATE_LENGTH) {
+      LocalDate date = date(text, false);
+      return date != null ? date.atStartOfDay() : null;
+    }
+    if (text.length() != DATE_TIME_LENGTH
+        || text.charAt(13) != ':'
+        || text.charAt(16) != ':'
+        || !isTimeSeparator(text)) {
+      return null;
+    }
+    int hour = digits(text, 11);
+    int minute = digits(text, 14);
+    int second = digits(text, 17);
+    boolean endOfDay = hour == 24 && minute == 0 && second == 0;
+    boolean validTime =
+        hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    if (!validTime && !endOfDay) {
+      return null;
+    }
+    LocalDate date = date(text, endOfDay);
+    if (date == null) {
+      return null;
+    }
+    return endOfDay
+        ? date.atStartOfDay()
+        : LocalDateTime.of(date, LocalTime.of(hour, minute, second));
   }
 
   public static LocalDate timestampToLocalDate(Timestamp timestamp) {
-    return timestamp.toInstant().atZone(ZoneId.of(zone)).toLocalDateTime().toLocalDate();
+    return LocalDate.ofInstant(timestamp.toInstant(), zone);
   }
 
   public static LocalDateTime castToLocalDateTime(Timestamp timestamp) {
-    return timestamp.toInstant().atZone(ZoneId.of(zone)).toLocalDateTime();
+    return LocalDateTime.ofInstant(timestamp.toInstant(), zone);
+  }
+
+  /** La fecha del texto, en formato {@code dd/MM/yyyy} o {@code yyyy-MM-dd}. */
+  private static LocalDate date(CharSequence text, boolean nextDay) {
+    int day;
+    int month;
+    int year;
+    if (text.charAt(2) == '/' && text.charAt(5) == '/') {
+      day = digits(text, 0);
+      month = digits(text, 3);
+      year = year(text, 6);
+    } else if (text.charAt(4) == '-' && text.charAt(7) == '-') {
+      year = year(text, 0);
+      month = digits(text, 5);
+      day = digits(text, 8);
+    } else {
+      return null;
+    }
+    if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+      return null;
+    }
+    LocalDate date =
+        LocalDate.of(year, month, Math.min(day, Month.of(month).length(Year.isLeap(year))));
+    return nextDay ? date.plusDays(1) : date;
+  }
+
+  private static boolean isTimeSeparator(CharSequence text) {
+    char separator = text.charAt(DATE_LENGTH);
+    return separator == ' ' || separator == 'T' && text.charAt(4) == '-';
+  }
+
+  /** El número de dos dígitos en la posición indicada, o {@code -1} si no son dígitos. */
+  private static int digits(CharSequence text, int index) {
+    int tens = text.charAt(index) - '0';
+    int units = text.charAt(index + 1) - '0';
+    if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+      return -1;
+    }
+    return tens * 10 + units;
+  }
+
+  private static int year(CharSequence text, int index) {
+    int high = digits(text, index);
+    int low = digits(text, index + 2);
+    return high < 0 || low < 0 ? -1 : high * 100 + low;
   }
 }
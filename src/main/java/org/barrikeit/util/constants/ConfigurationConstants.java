@@ -14,6 +14,23 @@ public class ConfigurationConstants {
   public static final String REPOSITORIES_PACKAGE = "org.barrikeit.model.repository";
   public static final String ENTITIES_PACKAGE = "org.barrikeit.model.domain";
 
+  public static final String ID_STRATEGY_IDENTITY = "identity";
+  public static final String ID_STRATEGY_SEQUENCE = "sequence";
+  public static final String PERSISTENCE_JPA = "jpa";
+  public static final String PERSISTENCE_HIBERNATE = "hibernate";
+  public static final String SEQUENCE_ID_MAPPING = "META-INF/orm-sequence.xml";
+
+  public static final String EXECUTOR_PLATFORM = "platform";
+  public static final String EXECUTOR_VIRTUAL = "virtual";
+
+  public static final String PROTOCOL_NIO = "nio";
+  public static final String PROTOCOL_NIO2 = "nio2";
+
+  public static final String REJECTION_ABORT = "abort";
+  public static final String REJECTION_CALLER_RUNS = "caller-runs";
+
+  public static final String STARTUP_EXIT_PROPERTY = "application.startup.exit";
+
   public static final String[] CONFIG_LOCATIONS = {"/", "/config/", "/configuration/"};
   public static final String[] CONFIG_EXTENSIONS = {"properties", "yml", "yaml"};
 }
@@ -11,4 +11,7 @@ public class EntityConstants {
   public static final String ID = "id";
   public static final String ID_USER = "id_user";
   public static final String CODE = "code";
+  public static final String VERSION = "version";
+  // hints
+  public static final int STREAM_FETCH_SIZE = 500;
 }
@@ -9,6 +9,8 @@ public class ExceptionConstants {
   public static final String BAD_REQUEST = "The received request has an incorrect format";
   public static final String NOT_FOUND = "Not found Exception";
   public static final String INTERNAL_SERVER_ERROR = "Internal Server Error";
+  public static final String SERVICE_UNAVAILABLE = "Service Unavailable";
+  public static final String PRECONDITION_FAILED = "Precondition Failed";
 
   // Mensages para las nuevas instancias de las Excepciones que extiendan de GenericEsception()
   public static final String ERROR_INTERNAL_SERVER =
@@ -20,4 +22,24 @@ public class ExceptionConstants {
       "Error al insertar el valor al campo {0} de la clase {1}.";
   public static final String ERROR_MISSING_ANNOTATION =
       "No existe la anotación {0} en la clase : {1}";
+  public static final String ERROR_INVALID_CURSOR = "Invalid pagination cursor: {0}";
+  public static final String ERROR_SEARCH_FIELD = "Unknown search field: {0}";
+  public static final String ERROR_LOOKUP_SIZE = "Too many identifiers: {0}, the maximum is {1}";
+  public static final String ERROR_SEARCH_VALUE = "Invalid value {0} for the search field {1}";
+  public static final String ERROR_IMPORT_FILE = "The imported file cannot be read: {0}";
+  public static final String ERROR_IMPORT_COLUMN = "Unknown column {0} in the imported file";
+  public static final String ERROR_IMPORT_TYPE = "Unsupported import content type: {0}";
+  public static final String ERROR_MIGRATION_TABLE = "Table {0} not found in {1}";
+  public static final String ERROR_MIGRATION_FIELD =
+      "Unknown field {0} of {1} in the column mapping";
+  public static final String ERROR_MIGRATION_COLUMNS = "No column of {0} maps to a field of {1}";
+  public static final String ERROR_MIGRATION_CHECKPOINT =
+      "The checkpoint {0} belongs to another source or version of the file";
+  public static final String ERROR_VERSION_MISMATCH =
+      "The entity {0} has been modified, its current version is {1}";
+  public static final String ERROR_DATABASE_BUSY =
+      "The database executor is saturated, retry the request later";
+  public static final String ERROR_IMPORT_BUSY =
+      "Too many imports are running, retry the request later";
+  public static final String ERROR_ASYNC_TIMEOUT = "The request timed out waiting for the database";
 }
@@ -9,4 +9,8 @@ public class UtilConstants {
   public static final String PATTERN_DATE_TIME = "dd/MM/yyyy HH:mm:ss";
   public static final String PATTERN_LOCAL_DATE_DOWNLOAD = "dd-MM-yyyy";
   public static final String PATTERN_DATE_TIME_DOWNLOAD = "dd-MM-yyyy_HHmmss";
+
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 1000;
+  public static final int MAX_LOOKUP_SIZE = 1000;
 }
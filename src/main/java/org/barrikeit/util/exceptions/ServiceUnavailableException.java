@@ -0,0 +1,23 @@
+package org.barrikeit.util.exceptions;
+
+import java.net.URI;
+import org.barrikeit.util.constants.ExceptionConstants;
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends GenericException {
+
+  static final URI TYPE = URI.create("");
+
+  public ServiceUnavailableException(String message) {
+    super(HttpStatus.SERVICE_UNAVAILABLE, message);
+  }
+
+  public ServiceUnavailableException(String message, Object... messageArgs) {
+    super(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        TYPE,
+        ExceptionConstants.SERVICE_UNAVAILABLE,
+        message,
+        messageArgs);
+  }
+}